@@ -0,0 +1,197 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.base64.Base64Helper;
+import ru.d_shap.base64.Base64ParallelHelper;
+
+/**
+ * Benchmarks for the {@link Base64Helper} conversions with the {@link Base64} as a baseline.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class Base64HelperBenchmark {
+
+    /**
+     * The number of the original bytes.
+     */
+    @Param({"16", "256", "4096", "65536", "1048576", "67108864"})
+    public int _payloadSize;
+
+    private byte[] _bytes;
+
+    private String _base64;
+
+    private byte[] _base64Bytes;
+
+    private byte[] _bytesBuffer;
+
+    /**
+     * Create new object.
+     */
+    public Base64HelperBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the payload.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _bytes = PayloadHelper.createBytes(_payloadSize);
+        _base64 = Base64Helper.toBase64(_bytes);
+        _base64Bytes = _base64.getBytes(StandardCharsets.US_ASCII);
+        _bytesBuffer = new byte[_payloadSize];
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#toBase64(byte[])}.
+     *
+     * @return the base64 string.
+     */
+    @Benchmark
+    public String toBase64() {
+        return Base64Helper.toBase64(_bytes);
+    }
+
+    /**
+     * Benchmark for {@link Base64ParallelHelper#toBase64(byte[])}.
+     *
+     * @return the base64 string.
+     */
+    @Benchmark
+    public String toBase64Parallel() {
+        return Base64ParallelHelper.toBase64(_bytes);
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#toBytes(String)}.
+     *
+     * @return the byte array.
+     */
+    @Benchmark
+    public byte[] toBytes() {
+        return Base64Helper.toBytes(_base64);
+    }
+
+    /**
+     * Benchmark for {@link Base64ParallelHelper#toBytes(String)}.
+     *
+     * @return the byte array.
+     */
+    @Benchmark
+    public byte[] toBytesParallel() {
+        return Base64ParallelHelper.toBytes(_base64);
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#toBytes(String, byte[])}.
+     *
+     * @return the number of bytes.
+     */
+    @Benchmark
+    public int toBytesSpecified() {
+        return Base64Helper.toBytes(_base64, _bytesBuffer);
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#isBase64String(String)}.
+     *
+     * @return the check result.
+     */
+    @Benchmark
+    public boolean isBase64String() {
+        return Base64Helper.isBase64String(_base64);
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#toBytes(byte[], byte[])}.
+     *
+     * @return the number of bytes.
+     */
+    @Benchmark
+    public int toBytesFromBytesSpecified() {
+        return Base64Helper.toBytes(_base64Bytes, _bytesBuffer);
+    }
+
+    /**
+     * Benchmark for {@link Base64Helper#isBase64String(byte[])}.
+     *
+     * @return the check result.
+     */
+    @Benchmark
+    public boolean isBase64StringFromBytes() {
+        return Base64Helper.isBase64String(_base64Bytes);
+    }
+
+    /**
+     * Baseline benchmark for {@link Base64.Encoder#encodeToString(byte[])}.
+     *
+     * @return the base64 string.
+     */
+    @Benchmark
+    public String jdkToBase64() {
+        return Base64.getEncoder().encodeToString(_bytes);
+    }
+
+    /**
+     * Baseline benchmark for {@link Base64.Decoder#decode(String)}.
+     *
+     * @return the byte array.
+     */
+    @Benchmark
+    public byte[] jdkToBytes() {
+        return Base64.getDecoder().decode(_base64);
+    }
+
+    /**
+     * Baseline benchmark for {@link Base64.Decoder#decode(byte[], byte[])}.
+     *
+     * @return the number of bytes.
+     */
+    @Benchmark
+    public int jdkToBytesSpecified() {
+        return Base64.getDecoder().decode(_base64Bytes, _bytesBuffer);
+    }
+
+}
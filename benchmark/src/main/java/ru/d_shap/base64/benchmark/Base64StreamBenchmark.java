@@ -0,0 +1,231 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.base64.Base64Helper;
+import ru.d_shap.base64.Base64InputStream;
+import ru.d_shap.base64.Base64OutputStream;
+
+/**
+ * Benchmarks for the {@link Base64InputStream} and the {@link Base64OutputStream} with the
+ * {@link Base64} stream wrappers as a baseline.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class Base64StreamBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The number of the original bytes.
+     */
+    @Param({"16", "256", "4096", "65536", "1048576", "67108864"})
+    public int _payloadSize;
+
+    private byte[] _bytes;
+
+    private byte[] _base64Bytes;
+
+    private byte[] _chunk;
+
+    /**
+     * Create new object.
+     */
+    public Base64StreamBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the payload.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _bytes = PayloadHelper.createBytes(_payloadSize);
+        _base64Bytes = Base64Helper.toBase64(_bytes).getBytes(StandardCharsets.US_ASCII);
+        _chunk = new byte[CHUNK_SIZE];
+    }
+
+    /**
+     * Benchmark for the {@link Base64OutputStream} bulk writes.
+     *
+     * @return the number of written base64 characters.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long outputStreamWrite() throws IOException {
+        CountOutputStream countOutputStream = new CountOutputStream();
+        try (OutputStream outputStream = new Base64OutputStream(countOutputStream)) {
+            outputStream.write(_bytes);
+        }
+        return countOutputStream.getCount();
+    }
+
+    /**
+     * Benchmark for the {@link Base64OutputStream} single byte writes.
+     *
+     * @return the number of written base64 characters.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long outputStreamWriteByte() throws IOException {
+        CountOutputStream countOutputStream = new CountOutputStream();
+        try (OutputStream outputStream = new Base64OutputStream(countOutputStream)) {
+            for (byte value : _bytes) {
+                outputStream.write(value);
+            }
+        }
+        return countOutputStream.getCount();
+    }
+
+    /**
+     * Baseline benchmark for the {@link Base64.Encoder#wrap(OutputStream)} bulk writes.
+     *
+     * @return the number of written base64 characters.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long jdkOutputStreamWrite() throws IOException {
+        CountOutputStream countOutputStream = new CountOutputStream();
+        try (OutputStream outputStream = Base64.getEncoder().wrap(countOutputStream)) {
+            outputStream.write(_bytes);
+        }
+        return countOutputStream.getCount();
+    }
+
+    /**
+     * Benchmark for the {@link Base64InputStream} bulk reads.
+     *
+     * @return the number of read bytes.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long inputStreamRead() throws IOException {
+        try (InputStream inputStream = new Base64InputStream(new ByteArrayInputStream(_base64Bytes))) {
+            return readChunks(inputStream);
+        }
+    }
+
+    /**
+     * Benchmark for the {@link Base64InputStream} single byte reads.
+     *
+     * @return the number of read bytes.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long inputStreamReadByte() throws IOException {
+        try (InputStream inputStream = new Base64InputStream(new ByteArrayInputStream(_base64Bytes))) {
+            long count = 0;
+            while (inputStream.read() >= 0) {
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Baseline benchmark for the {@link Base64.Decoder#wrap(InputStream)} bulk reads.
+     *
+     * @return the number of read bytes.
+     *
+     * @throws IOException IO exception.
+     */
+    @Benchmark
+    public long jdkInputStreamRead() throws IOException {
+        try (InputStream inputStream = Base64.getDecoder().wrap(new ByteArrayInputStream(_base64Bytes))) {
+            return readChunks(inputStream);
+        }
+    }
+
+    private long readChunks(final InputStream inputStream) throws IOException {
+        long count = 0;
+        int read;
+        while (true) {
+            read = inputStream.read(_chunk, 0, _chunk.length);
+            if (read < 0) {
+                break;
+            }
+            count += read;
+        }
+        return count;
+    }
+
+    /**
+     * Output stream to count and discard the written bytes.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class CountOutputStream extends OutputStream {
+
+        private long _count;
+
+        CountOutputStream() {
+            super();
+            _count = 0;
+        }
+
+        @Override
+        public void write(final int value) {
+            _count++;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            _count += length;
+        }
+
+        long getCount() {
+            return _count;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+/**
+ * <p>
+ * JMH benchmarks for the base64 library.
+ * </p>
+ * <p>
+ * The library is compiled for Java 1.7, the benchmarks require Java 8 or later. To build and
+ * run the benchmarks, install the library to the local repository first:
+ * </p>
+ * <pre>{@code
+ * mvn install
+ * mvn -f benchmark/pom.xml package
+ * java -jar benchmark/target/benchmarks.jar
+ * }</pre>
+ * <p>
+ * Each benchmark is parameterised with the payload size from 16 bytes to 64 megabytes and is
+ * measured both in the throughput and the average time modes. The GC profiler is always enabled
+ * to report the allocation rate. {@link java.util.Base64} is used as an in-process baseline.
+ * </p>
+ */
+package ru.d_shap.base64.benchmark;
@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Alphabet of the base64 characters with the precomputed tables for the bytes-to-base64 and the base64-to-bytes conversions.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64Alphabet {
+
+    /**
+     * The standard alphabet, described in RFC 2045, with the '+' and the '/' characters.
+     */
+    public static final Base64Alphabet STANDARD = new Base64Alphabet(Consts.TO_BASE64_CHARACTER_PAIR, Consts.FROM_BASE64_GROUP_1, Consts.FROM_BASE64_GROUP_2, Consts.FROM_BASE64_GROUP_3, Consts.FROM_BASE64_GROUP_4);
+
+    /**
+     * The URL and filename safe alphabet, described in RFC 4648, with the '-' and the '_' characters.
+     */
+    public static final Base64Alphabet URL_SAFE = createAlphabet("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", "");
+
+    /**
+     * The mixed alphabet: the standard alphabet, that also accepts the '-' and the '_' characters of the URL and filename safe alphabet.
+     * The standard characters are used, when the bytes are converted to the base64 representation.
+     */
+    public static final Base64Alphabet MIXED = createAlphabet("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/", "-_");
+
+    private final int[] _characterPairs;
+
+    private final int[] _groups1;
+
+    private final int[] _groups2;
+
+    private final int[] _groups3;
+
+    private final int[] _groups4;
+
+    private Base64Alphabet(final int[] characterPairs, final int[] groups1, final int[] groups2, final int[] groups3, final int[] groups4) {
+        super();
+        _characterPairs = characterPairs;
+        _groups1 = groups1;
+        _groups2 = groups2;
+        _groups3 = groups3;
+        _groups4 = groups4;
+    }
+
+    private static Base64Alphabet createAlphabet(final String characters, final String alternativeCharacters) {
+        int[] characterPairs = new int[4096];
+        for (int i = 0; i < characterPairs.length; i++) {
+            characterPairs[i] = characters.charAt(i >> 6) << 8 | characters.charAt(i & 0x3F);
+        }
+
+        int[] groups1 = new int[256];
+        int[] groups2 = new int[256];
+        int[] groups3 = new int[256];
+        int[] groups4 = new int[256];
+        for (int i = 0; i < groups4.length; i++) {
+            groups1[i] = -1;
+            groups2[i] = -1;
+            groups3[i] = -1;
+            groups4[i] = -1;
+        }
+        String allCharacters = characters + alternativeCharacters;
+        for (int i = 0; i < allCharacters.length(); i++) {
+            int character = allCharacters.charAt(i);
+            int value = i;
+            if (i >= characters.length()) {
+                value = i - alternativeCharacters.length();
+            }
+            groups1[character] = value << 18;
+            groups2[character] = value << 12;
+            groups3[character] = value << 6;
+            groups4[character] = value;
+        }
+        return new Base64Alphabet(characterPairs, groups1, groups2, groups3, groups4);
+    }
+
+    int getCharacterPair(final int value) {
+        return _characterPairs[value];
+    }
+
+    boolean isCharacterValid(final int character) {
+        return character >= 0 && character < _groups4.length && _groups4[character] >= 0;
+    }
+
+    int getValue(final int character) {
+        return _groups4[character];
+    }
+
+    int getGroup(final int character1, final int character2, final int character3, final int character4) {
+        return _groups1[character1] | _groups2[character2] | _groups3[character3] | _groups4[character4];
+    }
+
+}
@@ -0,0 +1,44 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Error of the conversion with the status result, such as {@link Base64Helper#tryToBytes(String, byte[], Base64Format)}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum Base64DecodeError {
+
+    /**
+     * The base64 representation contains the wrong character, the error index is the index of this character.
+     */
+    WRONG_CHARACTER,
+
+    /**
+     * The base64 representation has the wrong length, the error index is the index after the last base64 character.
+     */
+    WRONG_LENGTH,
+
+    /**
+     * The result does not fit the byte array, the error index is the index after the last base64 character.
+     */
+    BYTE_ARRAY_OVERFLOW
+
+}
@@ -0,0 +1,98 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Result holder of the conversion with {@link Base64Helper#tryToBytes(String, Base64Format, Base64DecodeResult)}.
+ * The same object can be reused for many conversions, the result of the previous conversion is replaced.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecodeResult {
+
+    private byte[] _bytes;
+
+    private long _status;
+
+    /**
+     * Create new object.
+     */
+    public Base64DecodeResult() {
+        super();
+        _bytes = null;
+        _status = 0;
+    }
+
+    void setBytes(final byte[] bytes) {
+        _bytes = bytes;
+        _status = bytes.length;
+    }
+
+    void setStatus(final long status) {
+        _bytes = null;
+        _status = status;
+    }
+
+    /**
+     * Define, whether the conversion succeeded or not.
+     *
+     * @return true, if the conversion succeeded.
+     */
+    public boolean isSuccess() {
+        return _status >= 0;
+    }
+
+    /**
+     * Get the byte array with the result, or null if the conversion failed.
+     *
+     * @return the byte array with the result.
+     */
+    public byte[] getBytes() {
+        return _bytes;
+    }
+
+    /**
+     * Get the status of the conversion: the number of bytes, or the negative error code.
+     *
+     * @return the status of the conversion.
+     */
+    public long getStatus() {
+        return _status;
+    }
+
+    /**
+     * Get the error of the conversion, or null if the conversion succeeded.
+     *
+     * @return the error of the conversion.
+     */
+    public Base64DecodeError getError() {
+        return Base64Helper.getDecodeError(_status);
+    }
+
+    /**
+     * Get the index of the error, or -1 if the conversion succeeded.
+     *
+     * @return the index of the error.
+     */
+    public int getErrorIndex() {
+        return Base64Helper.getDecodeErrorIndex(_status);
+    }
+
+}
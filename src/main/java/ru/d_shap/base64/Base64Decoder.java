@@ -0,0 +1,129 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental decoder of the base64 characters, represented with the ASCII bytes, to the bytes.
+ * The decoder keeps the incomplete group between the calls, so the input can be supplied in the arbitrary fragments.
+ * The decoder is not thread safe and can be reused after the {@link #reset()} call.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64Decoder {
+
+    private final int[] _characterBuffer;
+
+    private int _characterBufferPosition;
+
+    private final byte[] _outputBuffer;
+
+    private int _outputBufferPosition;
+
+    private int _outputBufferLength;
+
+    private boolean _padObtained;
+
+    /**
+     * Create new object.
+     */
+    public Base64Decoder() {
+        super();
+        _characterBuffer = new int[4];
+        _outputBuffer = new byte[3];
+        reset();
+    }
+
+    /**
+     * Decode the base64 characters from the input buffer and write the bytes to the output buffer.
+     * The positions of both buffers are advanced.
+     *
+     * @param base64     the input buffer with the base64 characters.
+     * @param bytes      the output buffer to write the bytes.
+     * @param endOfInput true if the input buffer contains the last base64 characters, so the incomplete group is an error.
+     *
+     * @return {@link Base64Result#UNDERFLOW} if all input is consumed, or {@link Base64Result#OVERFLOW} if the output buffer is full.
+     */
+    public Base64Result decode(final ByteBuffer base64, final ByteBuffer bytes, final boolean endOfInput) {
+        int groupsCount;
+        while (true) {
+            if (!writeOutputBuffer(bytes)) {
+                return Base64Result.OVERFLOW;
+            }
+            if (!base64.hasRemaining()) {
+                break;
+            }
+            if (_characterBufferPosition == 0 && !_padObtained) {
+                groupsCount = Math.min(base64.remaining() / 4, bytes.remaining() / 3);
+                if (groupsCount > 0 && Base64Helper.convertValidGroupsToBytes(base64, groupsCount, bytes) > 0) {
+                    continue;
+                }
+            }
+            addCharacter(base64.get() & 0xFF);
+        }
+
+        if (endOfInput && _characterBufferPosition > 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createEndOfStreamMessage());
+        }
+        return Base64Result.UNDERFLOW;
+    }
+
+    private void addCharacter(final int character) {
+        if (_padObtained) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
+        }
+        _characterBuffer[_characterBufferPosition] = character;
+        _characterBufferPosition++;
+        if (_characterBufferPosition == _characterBuffer.length) {
+            convertCharacterBufferToOutputBuffer();
+            _characterBufferPosition = 0;
+        }
+    }
+
+    private void convertCharacterBufferToOutputBuffer() {
+        int lastGroup = Base64Helper.getLastBase64Group(_characterBuffer[0], _characterBuffer[1], _characterBuffer[2], _characterBuffer[3]);
+        if (lastGroup < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(-lastGroup - 1));
+        }
+        _outputBufferPosition = 0;
+        _outputBufferLength = Base64Helper.convertLastBase64Group(lastGroup, _outputBuffer, 0);
+        _padObtained = _outputBufferLength < _outputBuffer.length;
+    }
+
+    private boolean writeOutputBuffer(final ByteBuffer bytes) {
+        while (_outputBufferPosition < _outputBufferLength && bytes.hasRemaining()) {
+            bytes.put(_outputBuffer[_outputBufferPosition]);
+            _outputBufferPosition++;
+        }
+        return _outputBufferPosition == _outputBufferLength;
+    }
+
+    /**
+     * Reset the decoder to the initial state, the incomplete group is discarded.
+     */
+    public void reset() {
+        _characterBufferPosition = 0;
+        _outputBufferPosition = 0;
+        _outputBufferLength = 0;
+        _padObtained = false;
+    }
+
+}
@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream to write the bytes of the base64 representation to the stream of the bytes.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecoderOutputStream extends OutputStream {
+
+    private static final int OUTPUT_BUFFER_SIZE = 6144;
+
+    private final OutputStream _outputStream;
+
+    private final int[] _characterBuffer;
+
+    private int _characterBufferPosition;
+
+    private final byte[] _outputBuffer;
+
+    private boolean _padObtained;
+
+    /**
+     * Create new object.
+     *
+     * @param outputStream output stream to write the bytes.
+     */
+    public Base64DecoderOutputStream(final OutputStream outputStream) {
+        super();
+        _outputStream = outputStream;
+        _characterBuffer = new int[4];
+        _characterBufferPosition = 0;
+        _outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+        _padObtained = false;
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        int character = value & 0xFF;
+        if (_padObtained) {
+            throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
+        }
+        _characterBuffer[_characterBufferPosition] = character;
+        _characterBufferPosition++;
+        if (_characterBufferPosition == _characterBuffer.length) {
+            writeCharacterBufferToOutputStream();
+            _characterBufferPosition = 0;
+        }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        int base64Index = offset;
+        int base64EndIndex = offset + length;
+        while ((_characterBufferPosition > 0 || _padObtained) && base64Index < base64EndIndex) {
+            write(bytes[base64Index]);
+            base64Index++;
+        }
+
+        int groupsCount = (base64EndIndex - base64Index) / 4;
+        int outputBufferGroupsCount = _outputBuffer.length / 3;
+        int currentGroupsCount;
+        int convertedGroupsCount;
+        while (groupsCount > 0) {
+            currentGroupsCount = Math.min(groupsCount, outputBufferGroupsCount);
+            convertedGroupsCount = Base64Helper.convertValidGroupsToBytes(bytes, base64Index, currentGroupsCount, _outputBuffer, 0);
+            _outputStream.write(_outputBuffer, 0, convertedGroupsCount * 3);
+            base64Index += convertedGroupsCount * 4;
+            if (convertedGroupsCount < currentGroupsCount) {
+                break;
+            }
+            groupsCount -= currentGroupsCount;
+        }
+
+        while (base64Index < base64EndIndex) {
+            write(bytes[base64Index]);
+            base64Index++;
+        }
+    }
+
+    private void writeCharacterBufferToOutputStream() throws IOException {
+        int lastGroup = Base64Helper.getLastBase64Group(_characterBuffer[0], _characterBuffer[1], _characterBuffer[2], _characterBuffer[3]);
+        if (lastGroup < 0) {
+            throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(-lastGroup - 1));
+        }
+        int bytesCount = Base64Helper.convertLastBase64Group(lastGroup, _outputBuffer, 0);
+        _outputStream.write(_outputBuffer, 0, bytesCount);
+        _padObtained = bytesCount < 3;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        _outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        int characterBufferPosition = _characterBufferPosition;
+        _characterBufferPosition = 0;
+        _outputStream.close();
+        if (characterBufferPosition > 0) {
+            throw new IOException(ExceptionMessageHelper.createEndOfStreamMessage());
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task to convert the slice of the base64 string to the byte array.
+ * The slice is split in halves on the 4-character boundary, until it is not greater than the chunk length.
+ * The padding is processed only in the last slice.
+ * The exception is not thrown by the task, but is kept to report the exception with the lowest index.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Base64DecoderTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String _base64;
+
+    private final int _base64Offset;
+
+    private final int _base64Length;
+
+    private final byte[] _bytes;
+
+    private final int _bytesOffset;
+
+    private final boolean _last;
+
+    private final int _chunkLength;
+
+    private Base64RuntimeException _exception;
+
+    Base64DecoderTask(final String base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset, final boolean last, final int chunkLength) {
+        super();
+        _base64 = base64;
+        _base64Offset = base64Offset;
+        _base64Length = base64Length;
+        _bytes = bytes;
+        _bytesOffset = bytesOffset;
+        _last = last;
+        _chunkLength = chunkLength;
+        _exception = null;
+    }
+
+    @Override
+    protected void compute() {
+        if (_base64Length <= _chunkLength || _base64Length <= 4) {
+            try {
+                convertToBytes();
+            } catch (Base64RuntimeException ex) {
+                _exception = ex;
+            }
+        } else {
+            int firstGroupsCount = _base64Length / 8;
+            int firstBase64Length = firstGroupsCount * 4;
+            int firstBytesLength = firstGroupsCount * 3;
+            Base64DecoderTask firstTask = new Base64DecoderTask(_base64, _base64Offset, firstBase64Length, _bytes, _bytesOffset, false, _chunkLength);
+            Base64DecoderTask secondTask = new Base64DecoderTask(_base64, _base64Offset + firstBase64Length, _base64Length - firstBase64Length, _bytes, _bytesOffset + firstBytesLength, _last, _chunkLength);
+            invokeAll(firstTask, secondTask);
+            if (firstTask._exception == null) {
+                _exception = secondTask._exception;
+            } else {
+                _exception = firstTask._exception;
+            }
+        }
+    }
+
+    private void convertToBytes() {
+        if (_last) {
+            Base64Helper.convertToBytes(_base64, _base64Offset, _base64Length, _bytes, _bytesOffset);
+        } else {
+            Base64Helper.convertGroupsToBytes(_base64, _base64Offset, _base64Length / 4, _bytes, _bytesOffset);
+        }
+    }
+
+    Base64RuntimeException getConversionException() {
+        return _exception;
+    }
+
+}
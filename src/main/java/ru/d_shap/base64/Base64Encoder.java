@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental encoder of the bytes to the base64 characters, represented with the ASCII bytes.
+ * The encoder keeps the incomplete group between the calls, so the input can be supplied in the arbitrary fragments.
+ * The encoder is not thread safe and can be reused after the {@link #reset()} call.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64Encoder {
+
+    private final byte[] _buffer;
+
+    private int _bufferPosition;
+
+    private final byte[] _outputBuffer;
+
+    private int _outputBufferPosition;
+
+    private int _outputBufferLength;
+
+    private boolean _padWritten;
+
+    /**
+     * Create new object.
+     */
+    public Base64Encoder() {
+        super();
+        _buffer = new byte[3];
+        _outputBuffer = new byte[4];
+        reset();
+    }
+
+    /**
+     * Encode the bytes from the input buffer and write the base64 characters to the output buffer.
+     * The positions of both buffers are advanced.
+     *
+     * @param bytes      the input buffer with the bytes.
+     * @param base64     the output buffer to write the base64 characters.
+     * @param endOfInput true if the input buffer contains the last bytes, so the incomplete group should be padded.
+     *
+     * @return {@link Base64Result#UNDERFLOW} if all input is consumed, or {@link Base64Result#OVERFLOW} if the output buffer is full.
+     */
+    public Base64Result encode(final ByteBuffer bytes, final ByteBuffer base64, final boolean endOfInput) {
+        if (_padWritten && bytes.hasRemaining()) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createInputAfterEndMessage());
+        }
+        int groupsCount;
+        while (true) {
+            if (!writeOutputBuffer(base64)) {
+                return Base64Result.OVERFLOW;
+            }
+            if (!bytes.hasRemaining()) {
+                break;
+            }
+            if (_bufferPosition == 0) {
+                groupsCount = Math.min(bytes.remaining() / 3, base64.remaining() / 4);
+                if (groupsCount > 0) {
+                    Base64Helper.convertToBase64(bytes, groupsCount * 3, base64);
+                    continue;
+                }
+            }
+            _buffer[_bufferPosition] = bytes.get();
+            _bufferPosition++;
+            if (_bufferPosition == _buffer.length) {
+                convertBufferToOutputBuffer();
+            }
+        }
+
+        if (endOfInput && _bufferPosition > 0) {
+            convertBufferToOutputBuffer();
+            _padWritten = true;
+            if (!writeOutputBuffer(base64)) {
+                return Base64Result.OVERFLOW;
+            }
+        }
+        return Base64Result.UNDERFLOW;
+    }
+
+    private void convertBufferToOutputBuffer() {
+        Base64Helper.convertToBase64(_buffer, 0, _bufferPosition, _outputBuffer, 0);
+        _bufferPosition = 0;
+        _outputBufferPosition = 0;
+        _outputBufferLength = _outputBuffer.length;
+    }
+
+    private boolean writeOutputBuffer(final ByteBuffer base64) {
+        while (_outputBufferPosition < _outputBufferLength && base64.hasRemaining()) {
+            base64.put(_outputBuffer[_outputBufferPosition]);
+            _outputBufferPosition++;
+        }
+        return _outputBufferPosition == _outputBufferLength;
+    }
+
+    /**
+     * Reset the encoder to the initial state, the incomplete group is discarded.
+     */
+    public void reset() {
+        _bufferPosition = 0;
+        _outputBufferPosition = 0;
+        _outputBufferLength = 0;
+        _padWritten = false;
+    }
+
+}
@@ -0,0 +1,142 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream to read the base64 representation of the bytes from the stream of the bytes.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64EncoderInputStream extends InputStream {
+
+    private static final int END_OF_STREAM = -1;
+
+    private static final int BYTE_BUFFER_SIZE = 6144;
+
+    private final InputStream _inputStream;
+
+    private final byte[] _byteBuffer;
+
+    private int _byteBufferLength;
+
+    private final byte[] _base64Buffer;
+
+    private int _base64BufferPosition;
+
+    private int _base64BufferLength;
+
+    private boolean _endOfStream;
+
+    /**
+     * Create new object.
+     *
+     * @param inputStream input stream with the bytes.
+     */
+    public Base64EncoderInputStream(final InputStream inputStream) {
+        super();
+        _inputStream = inputStream;
+        _byteBuffer = new byte[BYTE_BUFFER_SIZE];
+        _byteBufferLength = 0;
+        _base64Buffer = new byte[Base64Helper.getBase64StringLength(BYTE_BUFFER_SIZE)];
+        _base64BufferPosition = 0;
+        _base64BufferLength = 0;
+        _endOfStream = false;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (_base64BufferPosition == _base64BufferLength) {
+            fillBase64Buffer();
+            if (_base64BufferLength == 0) {
+                return END_OF_STREAM;
+            }
+        }
+        int character = _base64Buffer[_base64BufferPosition];
+        _base64BufferPosition++;
+        return character;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (_base64BufferPosition == _base64BufferLength) {
+            fillBase64Buffer();
+            if (_base64BufferLength == 0) {
+                return END_OF_STREAM;
+            }
+        }
+
+        int count = Math.min(_base64BufferLength - _base64BufferPosition, length);
+        System.arraycopy(_base64Buffer, _base64BufferPosition, bytes, offset, count);
+        _base64BufferPosition += count;
+        return count;
+    }
+
+    private void fillBase64Buffer() throws IOException {
+        _base64BufferPosition = 0;
+        _base64BufferLength = 0;
+        int readBytes;
+        int groupsCount;
+        int groupsBytesCount;
+        while (_base64BufferLength == 0 && !_endOfStream) {
+            readBytes = _inputStream.read(_byteBuffer, _byteBufferLength, _byteBuffer.length - _byteBufferLength);
+            if (readBytes < 0) {
+                _endOfStream = true;
+                Base64Helper.convertToBase64(_byteBuffer, 0, _byteBufferLength, _base64Buffer, 0);
+                _base64BufferLength = Base64Helper.getBase64StringLength(_byteBufferLength);
+                _byteBufferLength = 0;
+            } else {
+                _byteBufferLength += readBytes;
+                groupsCount = _byteBufferLength / 3;
+                groupsBytesCount = groupsCount * 3;
+                Base64Helper.convertGroupsToBase64(_byteBuffer, 0, groupsCount, _base64Buffer, 0);
+                _base64BufferLength = groupsCount * 4;
+                _byteBufferLength -= groupsBytesCount;
+                System.arraycopy(_byteBuffer, groupsBytesCount, _byteBuffer, 0, _byteBufferLength);
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        int unreadCharactersInBuffer = _base64BufferLength - _base64BufferPosition;
+        if (_endOfStream) {
+            return unreadCharactersInBuffer;
+        } else {
+            long availableBytes = (long) _byteBufferLength + _inputStream.available();
+            long availableCharacters = unreadCharactersInBuffer + availableBytes / 3 * 4;
+            return (int) Math.min(availableCharacters, Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        _inputStream.close();
+    }
+
+}
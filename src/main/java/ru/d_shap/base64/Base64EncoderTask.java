@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task to convert the chunk of the byte array to the base64 characters.
+ * The chunk is split in halves on the 3-byte boundary, until it is not greater than the chunk length.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Base64EncoderTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] _bytes;
+
+    private final int _bytesOffset;
+
+    private final int _bytesLength;
+
+    private final byte[] _base64;
+
+    private final int _base64Offset;
+
+    private final int _chunkLength;
+
+    Base64EncoderTask(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64, final int base64Offset, final int chunkLength) {
+        super();
+        _bytes = bytes;
+        _bytesOffset = bytesOffset;
+        _bytesLength = bytesLength;
+        _base64 = base64;
+        _base64Offset = base64Offset;
+        _chunkLength = chunkLength;
+    }
+
+    @Override
+    protected void compute() {
+        if (_bytesLength <= _chunkLength || _bytesLength <= 3) {
+            Base64Helper.convertToBase64(_bytes, _bytesOffset, _bytesLength, _base64, _base64Offset);
+        } else {
+            int groupsCount = (_bytesLength + 2) / 3;
+            int firstGroupsCount = groupsCount / 2;
+            int firstBytesLength = firstGroupsCount * 3;
+            int firstBase64Length = firstGroupsCount * 4;
+            Base64EncoderTask firstTask = new Base64EncoderTask(_bytes, _bytesOffset, firstBytesLength, _base64, _base64Offset, _chunkLength);
+            Base64EncoderTask secondTask = new Base64EncoderTask(_bytes, _bytesOffset + firstBytesLength, _bytesLength - firstBytesLength, _base64, _base64Offset + firstBase64Length, _chunkLength);
+            invokeAll(firstTask, secondTask);
+        }
+    }
+
+}
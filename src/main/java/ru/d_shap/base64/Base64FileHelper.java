@@ -0,0 +1,327 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Class to perform the bytes-to-base64 and the base64-to-bytes conversions of the files.
+ * The source file and the target file are mapped to the memory window by window, the windows are aligned
+ * to the 3-byte and the 4-character boundaries. The target file is created with the exact length of the result
+ * before the windows are mapped, so the files larger than 2 GB are supported. The windows can be converted in parallel
+ * with the fork/join pool. If the conversion fails, then the target file is deleted. The target file can not be
+ * the source file.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64FileHelper {
+
+    /**
+     * The default window size in base64 characters.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private Base64FileHelper() {
+        super();
+    }
+
+    /**
+     * Convert the source file to the base64 representation and write it to the target file.
+     *
+     * @param source the source file.
+     * @param target the target file to write the base64 characters.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBase64(final Path source, final Path target) throws IOException {
+        return toBase64(source, target, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Convert the source file to the base64 representation and write it to the target file.
+     *
+     * @param source     the source file.
+     * @param target     the target file to write the base64 characters.
+     * @param windowSize the window size in base64 characters, rounded down to the multiple of 4.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBase64(final Path source, final Path target, final int windowSize) throws IOException {
+        return convert(source, target, windowSize, null, true);
+    }
+
+    /**
+     * Convert the source file to the base64 representation and write it to the target file, the windows are converted in parallel.
+     *
+     * @param source     the source file.
+     * @param target     the target file to write the base64 characters.
+     * @param windowSize the window size in base64 characters, rounded down to the multiple of 4.
+     * @param pool       the pool to execute the tasks.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBase64(final Path source, final Path target, final int windowSize, final ForkJoinPool pool) throws IOException {
+        return convert(source, target, windowSize, pool, true);
+    }
+
+    /**
+     * Convert the source file with the base64 characters to the bytes and write them to the target file.
+     *
+     * @param source the source file with the base64 characters.
+     * @param target the target file to write the bytes.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBytes(final Path source, final Path target) throws IOException {
+        return toBytes(source, target, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Convert the source file with the base64 characters to the bytes and write them to the target file.
+     *
+     * @param source     the source file with the base64 characters.
+     * @param target     the target file to write the bytes.
+     * @param windowSize the window size in base64 characters, rounded down to the multiple of 4.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBytes(final Path source, final Path target, final int windowSize) throws IOException {
+        return convert(source, target, windowSize, null, false);
+    }
+
+    /**
+     * Convert the source file with the base64 characters to the bytes and write them to the target file, the windows are converted in parallel.
+     * If the source file contains several wrong characters, then the exception for the first of them is thrown.
+     *
+     * @param source     the source file with the base64 characters.
+     * @param target     the target file to write the bytes.
+     * @param windowSize the window size in base64 characters, rounded down to the multiple of 4.
+     * @param pool       the pool to execute the tasks.
+     *
+     * @return the length of the target file.
+     *
+     * @throws IOException IO exception.
+     */
+    public static long toBytes(final Path source, final Path target, final int windowSize, final ForkJoinPool pool) throws IOException {
+        return convert(source, target, windowSize, pool, false);
+    }
+
+    private static long convert(final Path source, final Path target, final int windowSize, final ForkJoinPool pool, final boolean encode) throws IOException {
+        if (windowSize < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongWindowSizeMessage(windowSize));
+        }
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createSameSourceAndTargetFileMessage());
+        }
+        try {
+            return convertFile(source, target, windowSize, pool, encode);
+        } catch (IOException | Base64RuntimeException ex) {
+            deleteTarget(target, ex);
+            throw ex;
+        }
+    }
+
+    private static long convertFile(final Path source, final Path target, final int windowSize, final ForkJoinPool pool, final boolean encode) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long sourceLength = sourceChannel.size();
+            long targetLength;
+            int sourceWindowSize;
+            int targetWindowSize;
+            if (encode) {
+                targetLength = Base64Helper.getBase64Length(sourceLength);
+                sourceWindowSize = windowSize / 4 * 3;
+                targetWindowSize = windowSize / 4 * 4;
+            } else {
+                targetLength = getBytesLength(sourceChannel, sourceLength);
+                sourceWindowSize = windowSize / 4 * 4;
+                targetWindowSize = windowSize / 4 * 3;
+            }
+
+            try (RandomAccessFile targetFile = new RandomAccessFile(target.toFile(), "rw")) {
+                targetFile.setLength(targetLength);
+                Windows windows = new Windows(sourceChannel, sourceLength, sourceWindowSize, targetFile.getChannel(), targetLength, targetWindowSize, encode);
+                if (pool == null) {
+                    convertSequentially(windows);
+                } else {
+                    convertInParallel(windows, pool);
+                }
+            }
+            return targetLength;
+        }
+    }
+
+    private static void deleteTarget(final Path target, final Exception exception) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException ex) {
+            exception.addSuppressed(ex);
+        }
+    }
+
+    static long getBytesLength(final SeekableByteChannel sourceChannel, final long sourceLength) throws IOException {
+        if (sourceLength % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64FileLengthMessage(sourceLength));
+        }
+        if (sourceLength == 0) {
+            return 0;
+        } else {
+            ByteBuffer lastCharacters = ByteBuffer.allocate(2);
+            sourceChannel.position(sourceLength - 2);
+            while (lastCharacters.hasRemaining()) {
+                if (sourceChannel.read(lastCharacters) < 0) {
+                    throw new IOException(ExceptionMessageHelper.createEndOfStreamMessage());
+                }
+            }
+            int emptyBytesCount = 0;
+            if (lastCharacters.get(1) == Consts.PAD) {
+                emptyBytesCount++;
+                if (lastCharacters.get(0) == Consts.PAD) {
+                    emptyBytesCount++;
+                }
+            }
+            return Base64Helper.getBytesLength(sourceLength) - emptyBytesCount;
+        }
+    }
+
+    private static void convertSequentially(final Windows windows) throws IOException {
+        for (long i = 0; i < windows.getWindowsCount(); i++) {
+            convertWindow(windows.mapSource(i), windows.mapTarget(i), windows.isEncode(), windows.isLast(i));
+        }
+    }
+
+    private static void convertInParallel(final Windows windows, final ForkJoinPool pool) throws IOException {
+        int batchSize = pool.getParallelism();
+        List<Base64WindowTask> tasks = new ArrayList<>(batchSize);
+        List<ForkJoinTask<?>> futures = new ArrayList<>(batchSize);
+        for (long i = 0; i < windows.getWindowsCount(); i += batchSize) {
+            tasks.clear();
+            futures.clear();
+            long batchEnd = Math.min(i + batchSize, windows.getWindowsCount());
+            for (long j = i; j < batchEnd; j++) {
+                Base64WindowTask task = new Base64WindowTask(windows.mapSource(j), windows.mapTarget(j), windows.isEncode(), windows.isLast(j));
+                tasks.add(task);
+                futures.add(pool.submit(task));
+            }
+            for (ForkJoinTask<?> future : futures) {
+                future.join();
+            }
+            for (Base64WindowTask task : tasks) {
+                Base64RuntimeException exception = task.getConversionException();
+                if (exception != null) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    static void convertWindow(final ByteBuffer source, final ByteBuffer target, final boolean encode, final boolean last) {
+        if (encode) {
+            Base64Helper.toBase64(source, target);
+        } else if (last) {
+            Base64Helper.toBytes(source, target);
+        } else {
+            Base64Helper.convertGroupsToBytes(source, source.remaining() / 4, target);
+        }
+    }
+
+    /**
+     * The windows of the source file and the target file.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class Windows {
+
+        private final FileChannel _sourceChannel;
+
+        private final long _sourceLength;
+
+        private final int _sourceWindowSize;
+
+        private final FileChannel _targetChannel;
+
+        private final long _targetLength;
+
+        private final int _targetWindowSize;
+
+        private final boolean _encode;
+
+        private final long _windowsCount;
+
+        Windows(final FileChannel sourceChannel, final long sourceLength, final int sourceWindowSize, final FileChannel targetChannel, final long targetLength, final int targetWindowSize, final boolean encode) {
+            super();
+            _sourceChannel = sourceChannel;
+            _sourceLength = sourceLength;
+            _sourceWindowSize = sourceWindowSize;
+            _targetChannel = targetChannel;
+            _targetLength = targetLength;
+            _targetWindowSize = targetWindowSize;
+            _encode = encode;
+            _windowsCount = (sourceLength + sourceWindowSize - 1) / sourceWindowSize;
+        }
+
+        long getWindowsCount() {
+            return _windowsCount;
+        }
+
+        boolean isEncode() {
+            return _encode;
+        }
+
+        boolean isLast(final long window) {
+            return window == _windowsCount - 1;
+        }
+
+        MappedByteBuffer mapSource(final long window) throws IOException {
+            long offset = window * _sourceWindowSize;
+            long length = Math.min(_sourceWindowSize, _sourceLength - offset);
+            return _sourceChannel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+
+        MappedByteBuffer mapTarget(final long window) throws IOException {
+            long offset = window * _targetWindowSize;
+            long length = Math.min(_targetWindowSize, _targetLength - offset);
+            return _targetChannel.map(FileChannel.MapMode.READ_WRITE, offset, length);
+        }
+
+    }
+
+}
@@ -0,0 +1,234 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Format of the base64 representation: the alphabet, the padding, the line wrapping and the decoding leniency.
+ * The line wrapping is applied, when the bytes are converted to the base64 representation.
+ * The leniency is applied, when the base64 representation is converted to the bytes.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64Format {
+
+    /**
+     * The standard format, described in RFC 2045: the standard alphabet with the padding.
+     */
+    public static final Base64Format STANDARD = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED);
+
+    /**
+     * The URL and filename safe format, described in RFC 4648: the URL safe alphabet with the padding.
+     */
+    public static final Base64Format URL_SAFE = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED);
+
+    /**
+     * The URL and filename safe format without the padding, for example, for the JSON web tokens.
+     */
+    public static final Base64Format URL_SAFE_UNPADDED = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED);
+
+    /**
+     * The mixed format: the mixed alphabet with the optional padding, that decodes both the standard and the URL and filename safe base64 representations.
+     */
+    public static final Base64Format MIXED = new Base64Format(Base64Alphabet.MIXED, Base64Padding.OPTIONAL);
+
+    /**
+     * The MIME format, described in RFC 2045: the standard alphabet with the padding, split to the lines of 76 characters separated with CRLF.
+     * All characters, that are not the base64 characters, are skipped, when the base64 representation is decoded.
+     */
+    public static final Base64Format MIME = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 76, "\r\n", Base64Leniency.SKIP_NON_ALPHABET);
+
+    private static final String WHITESPACE_CHARACTERS = " \t\n\u000B\f\r";
+
+    private final Base64Alphabet _alphabet;
+
+    private final Base64Padding _padding;
+
+    private final int _lineLength;
+
+    private final String _lineSeparator;
+
+    private final byte[] _lineSeparatorBytes;
+
+    private final Base64Leniency _leniency;
+
+    /**
+     * Create new object.
+     *
+     * @param alphabet the alphabet of the base64 characters.
+     * @param padding  the padding of the incomplete last group.
+     */
+    public Base64Format(final Base64Alphabet alphabet, final Base64Padding padding) {
+        this(alphabet, padding, Base64Leniency.STRICT);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param alphabet the alphabet of the base64 characters.
+     * @param padding  the padding of the incomplete last group.
+     * @param leniency the leniency of the decoding.
+     */
+    public Base64Format(final Base64Alphabet alphabet, final Base64Padding padding, final Base64Leniency leniency) {
+        super();
+        if (alphabet == null || padding == null || leniency == null) {
+            throw new NullPointerException();
+        }
+        _alphabet = alphabet;
+        _padding = padding;
+        _lineLength = 0;
+        _lineSeparator = "";
+        _lineSeparatorBytes = new byte[0];
+        _leniency = leniency;
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param alphabet      the alphabet of the base64 characters.
+     * @param padding       the padding of the incomplete last group.
+     * @param lineLength    the maximum number of the base64 characters in the line, rounded down to the multiple of 4.
+     * @param lineSeparator the ASCII characters to separate the lines.
+     */
+    public Base64Format(final Base64Alphabet alphabet, final Base64Padding padding, final int lineLength, final String lineSeparator) {
+        this(alphabet, padding, lineLength, lineSeparator, Base64Leniency.STRICT);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param alphabet      the alphabet of the base64 characters.
+     * @param padding       the padding of the incomplete last group.
+     * @param lineLength    the maximum number of the base64 characters in the line, rounded down to the multiple of 4.
+     * @param lineSeparator the ASCII characters to separate the lines.
+     * @param leniency      the leniency of the decoding.
+     */
+    public Base64Format(final Base64Alphabet alphabet, final Base64Padding padding, final int lineLength, final String lineSeparator, final Base64Leniency leniency) {
+        super();
+        if (alphabet == null || padding == null || lineSeparator == null || leniency == null) {
+            throw new NullPointerException();
+        }
+        if (lineLength < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongLineLengthMessage(lineLength));
+        }
+        _alphabet = alphabet;
+        _padding = padding;
+        _lineLength = lineLength / 4 * 4;
+        _lineSeparator = lineSeparator;
+        _lineSeparatorBytes = lineSeparator.getBytes(StandardCharsets.ISO_8859_1);
+        _leniency = leniency;
+    }
+
+    /**
+     * Get the alphabet of the base64 characters.
+     *
+     * @return the alphabet of the base64 characters.
+     */
+    public Base64Alphabet getAlphabet() {
+        return _alphabet;
+    }
+
+    /**
+     * Get the padding of the incomplete last group.
+     *
+     * @return the padding of the incomplete last group.
+     */
+    public Base64Padding getPadding() {
+        return _padding;
+    }
+
+    /**
+     * Get the maximum number of the base64 characters in the line.
+     *
+     * @return the maximum number of the base64 characters in the line, or 0 if the base64 representation is not split to the lines.
+     */
+    public int getLineLength() {
+        return _lineLength;
+    }
+
+    /**
+     * Get the characters to separate the lines.
+     *
+     * @return the characters to separate the lines.
+     */
+    public String getLineSeparator() {
+        return _lineSeparator;
+    }
+
+    /**
+     * Get the leniency of the decoding.
+     *
+     * @return the leniency of the decoding.
+     */
+    public Base64Leniency getLeniency() {
+        return _leniency;
+    }
+
+    /**
+     * Get the number of the base64 characters including the line separators, that represent the specified number of bytes in this format.
+     *
+     * @param bytesLength the number of bytes.
+     *
+     * @return the number of the base64 characters.
+     */
+    public long getBase64Length(final long bytesLength) {
+        long base64Length = Base64Helper.getBase64Length(bytesLength);
+        long bytesLengthM3 = bytesLength % 3;
+        if (!isPadWritten() && bytesLengthM3 > 0) {
+            base64Length = base64Length - 3 + bytesLengthM3;
+        }
+        if (_lineLength > 0 && base64Length > 0) {
+            base64Length += (base64Length - 1) / _lineLength * _lineSeparatorBytes.length;
+        }
+        return base64Length;
+    }
+
+    byte[] getLineSeparatorBytes() {
+        return _lineSeparatorBytes;
+    }
+
+    boolean isStrict() {
+        return _leniency == Base64Leniency.STRICT;
+    }
+
+    boolean isCharacterSkipped(final int character) {
+        if (_leniency == Base64Leniency.SKIP_WHITESPACE) {
+            return WHITESPACE_CHARACTERS.indexOf(character) >= 0;
+        } else if (_leniency == Base64Leniency.SKIP_NON_ALPHABET) {
+            return !_alphabet.isCharacterValid(character) && (character != Consts.PAD || !isPadAllowed());
+        } else {
+            return false;
+        }
+    }
+
+    boolean isPadWritten() {
+        return _padding != Base64Padding.UNPADDED;
+    }
+
+    boolean isPadRequired() {
+        return _padding == Base64Padding.PADDED;
+    }
+
+    boolean isPadAllowed() {
+        return _padding != Base64Padding.UNPADDED;
+    }
+
+}
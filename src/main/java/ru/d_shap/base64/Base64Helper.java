@@ -19,6 +19,9 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.base64;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Class to perform the bytes-to-base64 and the base64-to-bytes conversions.
  *
@@ -26,6 +29,12 @@ package ru.d_shap.base64;
  */
 public final class Base64Helper {
 
+    private static final Base64DecodeError[] DECODE_ERRORS = Base64DecodeError.values();
+
+    private static final int CHUNK_GROUPS_COUNT = 2048;
+
+    private static final ThreadLocal<byte[]> CHUNK = new ChunkThreadLocal();
+
     private Base64Helper() {
         super();
     }
@@ -51,6 +60,184 @@ public final class Base64Helper {
      * @return the base64 string.
      */
     public static String toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength) {
+        byte[] base64 = toBase64Bytes(bytes, bytesOffset, bytesLength);
+        return new String(base64, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Convert the byte array to the base64 string in the specified format.
+     *
+     * @param bytes  the byte array.
+     * @param format the format of the base64 string.
+     *
+     * @return the base64 string.
+     */
+    public static String toBase64(final byte[] bytes, final Base64Format format) {
+        return toBase64(bytes, 0, bytes.length, format);
+    }
+
+    /**
+     * Convert the byte array to the base64 string in the specified format.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     * @param format      the format of the base64 string.
+     *
+     * @return the base64 string.
+     */
+    public static String toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final Base64Format format) {
+        byte[] base64 = toBase64Bytes(bytes, bytesOffset, bytesLength, format);
+        return new String(base64, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes  the byte array.
+     * @param base64 the byte array to write the base64 characters.
+     *
+     * @return the number of base64 characters affected in the byte array.
+     */
+    public static int toBase64(final byte[] bytes, final byte[] base64) {
+        return toBase64(bytes, 0, bytes.length, base64, 0);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     * @param base64      the byte array to write the base64 characters.
+     *
+     * @return the number of base64 characters affected in the byte array.
+     */
+    public static int toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64) {
+        return toBase64(bytes, bytesOffset, bytesLength, base64, 0);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes        the byte array.
+     * @param base64       the byte array to write the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 byte array.
+     *
+     * @return the number of base64 characters affected in the byte array.
+     */
+    public static int toBase64(final byte[] bytes, final byte[] base64, final int base64Offset) {
+        return toBase64(bytes, 0, bytes.length, base64, base64Offset);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes        the byte array.
+     * @param bytesOffset  the offset of the first element in the byte array.
+     * @param bytesLength  the number of elements in the byte array.
+     * @param base64       the byte array to write the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 byte array.
+     *
+     * @return the number of base64 characters affected in the byte array.
+     */
+    public static int toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64, final int base64Offset) {
+        checkByteArrayBounds(bytes, bytesOffset, bytesLength);
+        if (base64Offset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(base64Offset));
+        }
+        if (base64Offset > base64.length) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(base64Offset));
+        }
+
+        int base64Length = getBase64StringLength(bytesLength);
+        if (base64Length > base64.length - base64Offset) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64.length - base64Offset, base64Length));
+        }
+        convertToBase64(bytes, bytesOffset, bytesLength, base64, base64Offset);
+        return base64Length;
+    }
+
+    /**
+     * Convert the remaining bytes of the byte buffer to the base64 characters, represented with the ASCII bytes,
+     * and write them to the base64 buffer. The positions of both buffers are advanced, no intermediate buffers are allocated per call.
+     * The buffers without the accessible array are converted in chunks through the reusable array of the current thread.
+     *
+     * @param bytes  the byte buffer.
+     * @param base64 the byte buffer to write the base64 characters.
+     *
+     * @return the number of base64 characters written to the base64 buffer.
+     */
+    public static int toBase64(final ByteBuffer bytes, final ByteBuffer base64) {
+        int bytesLength = bytes.remaining();
+        int base64Length = getBase64StringLength(bytesLength);
+        if (base64Length > base64.remaining()) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(base64.remaining(), base64Length));
+        }
+
+        convertToBase64(bytes, bytesLength, base64);
+        return base64Length;
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes the byte array.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes) {
+        return toBase64Bytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes, final int bytesOffset, final int bytesLength) {
+        checkByteArrayBounds(bytes, bytesOffset, bytesLength);
+
+        byte[] base64 = new byte[getBase64StringLength(bytesLength)];
+        convertToBase64(bytes, bytesOffset, bytesLength, base64, 0);
+        return base64;
+    }
+
+    /**
+     * Convert the byte array to the base64 characters in the specified format, represented with the ASCII byte array.
+     *
+     * @param bytes  the byte array.
+     * @param format the format of the base64 characters.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes, final Base64Format format) {
+        return toBase64Bytes(bytes, 0, bytes.length, format);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters in the specified format, represented with the ASCII byte array.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     * @param format      the format of the base64 characters.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes, final int bytesOffset, final int bytesLength, final Base64Format format) {
+        checkByteArrayBounds(bytes, bytesOffset, bytesLength);
+
+        byte[] base64 = new byte[getBase64StringLength(bytesLength, format)];
+        convertToBase64(bytes, bytesOffset, bytesLength, base64, 0, format);
+        return base64;
+    }
+
+    static void checkByteArrayBounds(final byte[] bytes, final int bytesOffset, final int bytesLength) {
         if (bytesOffset < 0) {
             throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset));
         }
@@ -60,62 +247,188 @@ public final class Base64Helper {
         if (bytesOffset + bytesLength > bytes.length) {
             throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset + bytesLength));
         }
+    }
 
-        int bufferLength = getBase64StringLength(bytesLength);
-        StringBuilder buffer = new StringBuilder(bufferLength);
+    static void convertToBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64, final int base64Offset) {
+        int groupsCount = bytesLength / 3;
+        convertGroupsToBase64(bytes, bytesOffset, groupsCount, base64, base64Offset);
 
-        int bytesIndex = bytesOffset;
+        int bytesIndex = bytesOffset + groupsCount * 3;
+        int base64Index = base64Offset + groupsCount * 4;
         int byte1;
         int byte2;
-        int byte3;
-        int bytesLengthD3 = bytesLength / 3;
-        for (int i = 0; i < bytesLengthD3; i++) {
-            byte1 = bytes[bytesIndex] & 0xFF;
-            bytesIndex++;
-            byte2 = bytes[bytesIndex] & 0xFF;
-            bytesIndex++;
-            byte3 = bytes[bytesIndex] & 0xFF;
-            bytesIndex++;
-
-            buffer.append((char) getFirstBase64Character(byte1));
-            buffer.append((char) getSecondBase64Character(byte1, byte2));
-            buffer.append((char) getThirdBase64Character(byte2, byte3));
-            buffer.append((char) getFourthBase64Character(byte3));
-        }
-
         int bytesLengthM3 = bytesLength % 3;
         if (bytesLengthM3 == 1) {
             byte1 = bytes[bytesIndex] & 0xFF;
 
-            buffer.append((char) getFirstBase64Character(byte1));
-            buffer.append((char) getSecondBase64Character(byte1));
-            buffer.append((char) Consts.PAD);
-            buffer.append((char) Consts.PAD);
+            base64[base64Index] = (byte) getFirstBase64Character(byte1);
+            base64[base64Index + 1] = (byte) getSecondBase64Character(byte1);
+            base64[base64Index + 2] = (byte) Consts.PAD;
+            base64[base64Index + 3] = (byte) Consts.PAD;
         }
         if (bytesLengthM3 == 2) {
             byte1 = bytes[bytesIndex] & 0xFF;
             byte2 = bytes[bytesIndex + 1] & 0xFF;
 
-            buffer.append((char) getFirstBase64Character(byte1));
-            buffer.append((char) getSecondBase64Character(byte1, byte2));
-            buffer.append((char) getThirdBase64Character(byte2));
-            buffer.append((char) Consts.PAD);
+            base64[base64Index] = (byte) getFirstBase64Character(byte1);
+            base64[base64Index + 1] = (byte) getSecondBase64Character(byte1, byte2);
+            base64[base64Index + 2] = (byte) getThirdBase64Character(byte2);
+            base64[base64Index + 3] = (byte) Consts.PAD;
+        }
+    }
+
+    static void convertToBase64(final ByteBuffer bytes, final int bytesLength, final ByteBuffer base64) {
+        int bytesPosition = bytes.position();
+        int base64Position = base64.position();
+        if (bytes.hasArray() && base64.hasArray()) {
+            convertToBase64(bytes.array(), bytes.arrayOffset() + bytesPosition, bytesLength, base64.array(), base64.arrayOffset() + base64Position);
+        } else {
+            convertToBase64(bytes, bytesPosition, bytesLength, base64, base64Position);
         }
+        bytes.position(bytesPosition + bytesLength);
+        base64.position(base64Position + getBase64StringLength(bytesLength));
+    }
 
-        return buffer.toString();
+    private static void convertToBase64(final ByteBuffer bytes, final int bytesOffset, final int bytesLength, final ByteBuffer base64, final int base64Offset) {
+        byte[] chunk = CHUNK.get();
+        int chunkBase64Offset = CHUNK_GROUPS_COUNT * 3;
+        int convertedLength = 0;
+        int base64Index = base64Offset;
+        int chunkLength;
+        int chunkBase64Length;
+        while (convertedLength < bytesLength) {
+            chunkLength = Math.min(bytesLength - convertedLength, CHUNK_GROUPS_COUNT * 3);
+            getChunk(bytes, bytesOffset + convertedLength, chunk, 0, chunkLength);
+            convertToBase64(chunk, 0, chunkLength, chunk, chunkBase64Offset);
+            chunkBase64Length = getBase64StringLength(chunkLength);
+            putChunk(base64, base64Index, chunk, chunkBase64Offset, chunkBase64Length);
+            convertedLength += chunkLength;
+            base64Index += chunkBase64Length;
+        }
     }
 
-    static int getBase64StringLength(final int bytesLength) {
-        int bytesLengthD3 = bytesLength / 3;
+    static int convertToBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64, final int base64Offset, final Base64Format format) {
+        int lineLength = format.getLineLength();
+        int lineBytesLength = lineLength / 4 * 3;
+        byte[] lineSeparator = format.getLineSeparatorBytes();
+        int bytesIndex = bytesOffset;
+        int bytesEndIndex = bytesOffset + bytesLength;
+        int base64Index = base64Offset;
+        if (lineLength > 0) {
+            while (bytesEndIndex - bytesIndex > lineBytesLength) {
+                convertGroupsToBase64(bytes, bytesIndex, lineLength / 4, base64, base64Index, format.getAlphabet());
+                bytesIndex += lineBytesLength;
+                base64Index += lineLength;
+                System.arraycopy(lineSeparator, 0, base64, base64Index, lineSeparator.length);
+                base64Index += lineSeparator.length;
+            }
+        }
+        base64Index += convertLineToBase64(bytes, bytesIndex, bytesEndIndex - bytesIndex, base64, base64Index, format);
+        return base64Index - base64Offset;
+    }
+
+    private static int convertLineToBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final byte[] base64, final int base64Offset, final Base64Format format) {
+        Base64Alphabet alphabet = format.getAlphabet();
+        int groupsCount = bytesLength / 3;
+        convertGroupsToBase64(bytes, bytesOffset, groupsCount, base64, base64Offset, alphabet);
+
+        int bytesIndex = bytesOffset + groupsCount * 3;
+        int base64Index = base64Offset + groupsCount * 4;
+        int group;
+        int characterPair;
         int bytesLengthM3 = bytesLength % 3;
+        if (bytesLengthM3 == 1) {
+            group = (bytes[bytesIndex] & 0xFF) << 16;
+            characterPair = alphabet.getCharacterPair(group >> 12);
 
-        int base64StringLength;
-        if (bytesLengthM3 == 0) {
-            base64StringLength = bytesLengthD3 * 4;
+            base64[base64Index] = (byte) (characterPair >> 8);
+            base64[base64Index + 1] = (byte) characterPair;
+            base64Index += 2;
+            if (format.isPadWritten()) {
+                base64[base64Index] = (byte) Consts.PAD;
+                base64[base64Index + 1] = (byte) Consts.PAD;
+                base64Index += 2;
+            }
+        }
+        if (bytesLengthM3 == 2) {
+            group = (bytes[bytesIndex] & 0xFF) << 16 | (bytes[bytesIndex + 1] & 0xFF) << 8;
+            characterPair = alphabet.getCharacterPair(group >> 12);
+
+            base64[base64Index] = (byte) (characterPair >> 8);
+            base64[base64Index + 1] = (byte) characterPair;
+            base64[base64Index + 2] = (byte) alphabet.getCharacterPair(group >> 6 & 0xFFF);
+            base64Index += 3;
+            if (format.isPadWritten()) {
+                base64[base64Index] = (byte) Consts.PAD;
+                base64Index++;
+            }
+        }
+        return base64Index - base64Offset;
+    }
+
+    static int getBase64StringLength(final int bytesLength) {
+        long base64Length = getBase64Length(bytesLength);
+        if (base64Length > Integer.MAX_VALUE) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createTooLargeBase64LengthMessage(base64Length));
+        }
+        return (int) base64Length;
+    }
+
+    static int getBase64StringLength(final int bytesLength, final Base64Format format) {
+        long base64Length = format.getBase64Length(bytesLength);
+        if (base64Length > Integer.MAX_VALUE) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createTooLargeBase64LengthMessage(base64Length));
+        }
+        return (int) base64Length;
+    }
+
+    static void convertGroupsToBase64(final byte[] bytes, final int bytesOffset, final int groupsCount, final byte[] base64, final int base64Offset) {
+        int vectorGroupsCount = VectorHelper.convertGroupsToBase64(bytes, bytesOffset, groupsCount, base64, base64Offset);
+        int bytesIndex = bytesOffset + vectorGroupsCount * 3;
+        int base64Index = base64Offset + vectorGroupsCount * 4;
+        int group;
+        int characterPair1;
+        int characterPair2;
+        for (int i = vectorGroupsCount; i < groupsCount; i++) {
+            group = (bytes[bytesIndex] & 0xFF) << 16 | (bytes[bytesIndex + 1] & 0xFF) << 8 | bytes[bytesIndex + 2] & 0xFF;
+            bytesIndex += 3;
+            characterPair1 = getBase64CharacterPair(group >> 12);
+            characterPair2 = getBase64CharacterPair(group & 0xFFF);
+
+            base64[base64Index] = (byte) (characterPair1 >> 8);
+            base64[base64Index + 1] = (byte) characterPair1;
+            base64[base64Index + 2] = (byte) (characterPair2 >> 8);
+            base64[base64Index + 3] = (byte) characterPair2;
+            base64Index += 4;
+        }
+    }
+
+    static void convertGroupsToBase64(final byte[] bytes, final int bytesOffset, final int groupsCount, final byte[] base64, final int base64Offset, final Base64Alphabet alphabet) {
+        if (alphabet == Base64Alphabet.STANDARD || alphabet == Base64Alphabet.MIXED) {
+            convertGroupsToBase64(bytes, bytesOffset, groupsCount, base64, base64Offset);
         } else {
-            base64StringLength = (bytesLengthD3 + 1) * 4;
+            int bytesIndex = bytesOffset;
+            int base64Index = base64Offset;
+            int group;
+            int characterPair1;
+            int characterPair2;
+            for (int i = 0; i < groupsCount; i++) {
+                group = (bytes[bytesIndex] & 0xFF) << 16 | (bytes[bytesIndex + 1] & 0xFF) << 8 | bytes[bytesIndex + 2] & 0xFF;
+                bytesIndex += 3;
+                characterPair1 = alphabet.getCharacterPair(group >> 12);
+                characterPair2 = alphabet.getCharacterPair(group & 0xFFF);
+
+                base64[base64Index] = (byte) (characterPair1 >> 8);
+                base64[base64Index + 1] = (byte) characterPair1;
+                base64[base64Index + 2] = (byte) (characterPair2 >> 8);
+                base64[base64Index + 3] = (byte) characterPair2;
+                base64Index += 4;
+            }
         }
-        return base64StringLength;
+    }
+
+    static int getBase64CharacterPair(final int value) {
+        return Consts.TO_BASE64_CHARACTER_PAIR[value];
     }
 
     static int getFirstBase64Character(final int byte1) {
@@ -197,15 +510,7 @@ public final class Base64Helper {
      * @return the number of bytes affected in the byte array.
      */
     public static int toBytes(final String base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset) {
-        if (base64Offset < 0) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset));
-        }
-        if (base64Length < 0) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
-        }
-        if (base64Offset + base64Length > base64.length()) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset + base64Length));
-        }
+        checkBase64StringBounds(base64, base64Offset, base64Length);
         if (base64Length % 4 != 0) {
             throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
         }
@@ -220,7 +525,7 @@ public final class Base64Helper {
             return 0;
         } else {
             int emptyBytesCount = getEmptyBytesCount(base64, base64Offset, base64Length);
-            int bytesLength = base64Length * 3 / 4 - emptyBytesCount;
+            int bytesLength = base64Length / 4 * 3 - emptyBytesCount;
             if (bytesOffset + bytesLength > bytes.length) {
                 throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayLengthMessage(bytes.length - bytesOffset, bytesLength));
             }
@@ -250,15 +555,7 @@ public final class Base64Helper {
      * @return the byte array with the result.
      */
     public static byte[] toBytes(final String base64, final int base64Offset, final int base64Length) {
-        if (base64Offset < 0) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset));
-        }
-        if (base64Length < 0) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
-        }
-        if (base64Offset + base64Length > base64.length()) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset + base64Length));
-        }
+        checkBase64StringBounds(base64, base64Offset, base64Length);
         if (base64Length % 4 != 0) {
             throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
         }
@@ -267,137 +564,1184 @@ public final class Base64Helper {
             return new byte[0];
         } else {
             int emptyBytesCount = getEmptyBytesCount(base64, base64Offset, base64Length);
-            int bytesLength = base64Length * 3 / 4 - emptyBytesCount;
+            int bytesLength = base64Length / 4 * 3 - emptyBytesCount;
             byte[] bytes = new byte[bytesLength];
             convertToBytes(base64, base64Offset, base64Length, bytes, 0);
             return bytes;
         }
     }
 
-    private static int getEmptyBytesCount(final String base64, final int base64Offset, final int base64Length) {
-        if (base64.charAt(base64Offset + base64Length - 1) == Consts.PAD) {
-            if (base64.charAt(base64Offset + base64Length - 2) == Consts.PAD) {
-                return 2;
-            } else {
-                return 1;
-            }
-        } else {
-            return 0;
-        }
-    }
-
-    private static void convertToBytes(final String base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset) {
-        int base64Index = base64Offset;
-        int character1;
-        int character2;
-        int character3;
-        int character4;
-        int bytesIndex = bytesOffset;
-        int base64LengthD4M1 = base64Length / 4 - 1;
-        for (int i = 0; i < base64LengthD4M1; i++) {
-            character1 = base64CharacterAt(base64, base64Index, false);
-            base64Index++;
-            character2 = base64CharacterAt(base64, base64Index, false);
-            base64Index++;
-            character3 = base64CharacterAt(base64, base64Index, false);
-            base64Index++;
-            character4 = base64CharacterAt(base64, base64Index, false);
-            base64Index++;
-
-            bytes[bytesIndex] = (byte) getFirstBase64Byte(character1, character2);
-            bytesIndex++;
-            bytes[bytesIndex] = (byte) getSecondBase64Byte(character2, character3);
-            bytesIndex++;
-            bytes[bytesIndex] = (byte) getThirdBase64Byte(character3, character4);
-            bytesIndex++;
-        }
-
-        character1 = base64CharacterAt(base64, base64Index, false);
-        character2 = base64CharacterAt(base64, base64Index + 1, false);
-        character3 = base64CharacterAt(base64, base64Index + 2, true);
-        character4 = base64CharacterAt(base64, base64Index + 3, true);
-        if (character4 == Consts.PAD) {
-            if (character3 == Consts.PAD) {
-                if (isSecondBase64ByteZero(character2)) {
-                    bytes[bytesIndex] = (byte) getFirstBase64Byte(character1, character2);
-                } else {
-                    throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character2));
-                }
-            } else {
-                if (isThirdBase64ByteZero(character3)) {
-                    bytes[bytesIndex] = (byte) getFirstBase64Byte(character1, character2);
-                    bytes[bytesIndex + 1] = (byte) getSecondBase64Byte(character2, character3);
-                } else {
-                    throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character3));
-                }
-            }
-        } else {
-            if (character3 == Consts.PAD) {
-                throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character4));
-            } else {
-                bytes[bytesIndex] = (byte) getFirstBase64Byte(character1, character2);
-                bytes[bytesIndex + 1] = (byte) getSecondBase64Byte(character2, character3);
-                bytes[bytesIndex + 2] = (byte) getThirdBase64Byte(character3, character4);
-            }
-        }
-    }
-
-    private static int base64CharacterAt(final String base64, final int base64Index, final boolean padIsValid) {
-        int character = base64.charAt(base64Index);
-        if (isBase64CharacterValid(character) || padIsValid && character == Consts.PAD) {
-            return character;
-        } else {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
-        }
-    }
-
-    static boolean isBase64CharacterValid(final int character) {
-        return character >= '+' && character < Consts.FROM_BASE64.length && Consts.FROM_BASE64[character] >= 0;
-    }
-
-    static boolean isSecondBase64ByteZero(final int character2) {
-        return Consts.FROM_BASE64_SECOND_BYTE_1[character2] == 0;
-    }
-
-    static boolean isThirdBase64ByteZero(final int character3) {
-        return Consts.FROM_BASE64_THIRD_BYTE_1[character3] == 0;
-    }
-
-    static int getFirstBase64Byte(final int character1, final int character2) {
-        return Consts.FROM_BASE64_FIRST_BYTE_1[character1] + Consts.FROM_BASE64_FIRST_BYTE_2[character2];
-    }
-
-    static int getSecondBase64Byte(final int character2, final int character3) {
-        return Consts.FROM_BASE64_SECOND_BYTE_1[character2] + Consts.FROM_BASE64_SECOND_BYTE_2[character3];
+    /**
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64 the base64 characters.
+     * @param bytes  the byte array to write the result.
+     *
+     * @return the number of bytes affected in the byte array.
+     */
+    public static int toBytes(final byte[] base64, final byte[] bytes) {
+        return toBytes(base64, 0, base64.length, bytes, 0);
     }
 
-    static int getThirdBase64Byte(final int character3, final int character4) {
-        return Consts.FROM_BASE64_THIRD_BYTE_1[character3] + Consts.FROM_BASE64_THIRD_BYTE_2[character4];
+    /**
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     * @param bytes        the byte array to write the result.
+     *
+     * @return the number of bytes affected in the byte array.
+     */
+    public static int toBytes(final byte[] base64, final int base64Offset, final int base64Length, final byte[] bytes) {
+        return toBytes(base64, base64Offset, base64Length, bytes, 0);
     }
 
     /**
-     * Define, whether the base64 string contains only the base64 characters or not.
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
      *
-     * @param base64 the base64 string.
+     * @param base64      the base64 characters.
+     * @param bytes       the byte array to write the result.
+     * @param bytesOffset the offset of the first element in the byte array.
      *
-     * @return true, if the base64 string contains only the base64 characters.
+     * @return the number of bytes affected in the byte array.
      */
-    public static boolean isBase64String(final String base64) {
-        return isBase64String(base64, 0, base64.length());
+    public static int toBytes(final byte[] base64, final byte[] bytes, final int bytesOffset) {
+        return toBytes(base64, 0, base64.length, bytes, bytesOffset);
     }
 
     /**
-     * Define, whether the base64 string contains only the base64 characters or not.
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
      *
-     * @param base64       the base64 string.
-     * @param base64Offset the offset of the first element in the base64 string.
-     * @param base64Length the number of elements in the base64 string.
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     * @param bytes        the byte array to write the result.
+     * @param bytesOffset  the offset of the first element in the byte array.
      *
-     * @return true, if the base64 string contains only the base64 characters.
+     * @return the number of bytes affected in the byte array.
      */
-    public static boolean isBase64String(final String base64, final int base64Offset, final int base64Length) {
-        if (base64Offset < 0) {
-            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset));
+    public static int toBytes(final byte[] base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64Length));
+        }
+        if (bytesOffset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset));
+        }
+        if (bytesOffset > bytes.length) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset));
+        }
+
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            int emptyBytesCount = getEmptyBytesCount(base64, base64Offset, base64Length);
+            int bytesLength = base64Length / 4 * 3 - emptyBytesCount;
+            if (bytesOffset + bytesLength > bytes.length) {
+                throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayLengthMessage(bytes.length - bytesOffset, bytesLength));
+            }
+            convertToBytes(base64, base64Offset, base64Length, bytes, bytesOffset);
+            return bytesLength;
+        }
+    }
+
+    /**
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64 the base64 characters.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final byte[] base64) {
+        return toBytes(base64, 0, base64.length);
+    }
+
+    /**
+     * Convert the base64 characters, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final byte[] base64, final int base64Offset, final int base64Length) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64Length));
+        }
+
+        if (base64Length == 0) {
+            return new byte[0];
+        } else {
+            int emptyBytesCount = getEmptyBytesCount(base64, base64Offset, base64Length);
+            int bytesLength = base64Length / 4 * 3 - emptyBytesCount;
+            byte[] bytes = new byte[bytesLength];
+            convertToBytes(base64, base64Offset, base64Length, bytes, 0);
+            return bytes;
+        }
+    }
+
+    /**
+     * Convert the remaining base64 characters of the base64 buffer, represented with the ASCII bytes, to the bytes
+     * and write them to the byte buffer. The positions of both buffers are advanced, no intermediate buffers are allocated per call.
+     * The buffers without the accessible array are converted in chunks through the reusable array of the current thread.
+     *
+     * @param base64 the base64 buffer.
+     * @param bytes  the byte buffer to write the result.
+     *
+     * @return the number of bytes written to the byte buffer.
+     */
+    public static int toBytes(final ByteBuffer base64, final ByteBuffer bytes) {
+        int base64Length = base64.remaining();
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(base64Length));
+        }
+
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            int base64Position = base64.position();
+            int bytesPosition = bytes.position();
+            int emptyBytesCount = getEmptyBytesCount(base64, base64Position, base64Length);
+            int bytesLength = base64Length / 4 * 3 - emptyBytesCount;
+            if (bytesLength > bytes.remaining()) {
+                throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteBufferLengthMessage(bytes.remaining(), bytesLength));
+            }
+            if (base64.hasArray() && bytes.hasArray()) {
+                convertToBytes(base64.array(), base64.arrayOffset() + base64Position, base64Length, bytes.array(), bytes.arrayOffset() + bytesPosition);
+            } else {
+                convertToBytes(base64, base64Position, base64Length, bytes, bytesPosition);
+            }
+            base64.position(base64Position + base64Length);
+            bytes.position(bytesPosition + bytesLength);
+            return bytesLength;
+        }
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array.
+     *
+     * @param base64 the base64 string.
+     * @param format the format of the base64 string.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final String base64, final Base64Format format) {
+        return toBytes(base64, 0, base64.length(), format);
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     * @param format       the format of the base64 string.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final String base64, final int base64Offset, final int base64Length, final Base64Format format) {
+        checkBase64StringBounds(base64, base64Offset, base64Length);
+        int dataLength = getDataLength(base64, base64Offset, base64Length, format);
+        if (dataLength < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
+        }
+        byte[] bytes = new byte[getDataBytesLength(dataLength)];
+        int wrongCharacterIndex = convertToBytes(base64, base64Offset, base64Length, dataLength, bytes, 0, format);
+        if (wrongCharacterIndex >= 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(base64.charAt(wrongCharacterIndex)));
+        }
+        return bytes;
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64 the base64 characters.
+     * @param format the format of the base64 characters.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final byte[] base64, final Base64Format format) {
+        return toBytes(base64, 0, base64.length, format);
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     * @param format       the format of the base64 characters.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final byte[] base64, final int base64Offset, final int base64Length, final Base64Format format) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        int dataLength = getDataLength(base64, base64Offset, base64Length, format);
+        if (dataLength < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64Length));
+        }
+        byte[] bytes = new byte[getDataBytesLength(dataLength)];
+        int wrongCharacterIndex = convertToBytes(base64, base64Offset, base64Length, dataLength, bytes, 0, format);
+        if (wrongCharacterIndex >= 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(base64[wrongCharacterIndex] & 0xFF));
+        }
+        return bytes;
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array without the exception for the wrong base64 string.
+     * The error code is decomposed with {@link #getDecodeError(long)} and {@link #getDecodeErrorIndex(long)}.
+     *
+     * @param base64 the base64 string.
+     * @param bytes  the byte array to write the result.
+     * @param format the format of the base64 string.
+     *
+     * @return the number of bytes affected in the byte array, or the negative error code.
+     */
+    public static long tryToBytes(final String base64, final byte[] bytes, final Base64Format format) {
+        return tryToBytes(base64, 0, base64.length(), bytes, 0, format);
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array without the exception for the wrong base64 string.
+     * The error code is decomposed with {@link #getDecodeError(long)} and {@link #getDecodeErrorIndex(long)}.
+     * The byte array can be partially affected, if the wrong character is found.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     * @param bytes        the byte array to write the result.
+     * @param bytesOffset  the offset of the first element in the byte array.
+     * @param format       the format of the base64 string.
+     *
+     * @return the number of bytes affected in the byte array, or the negative error code.
+     */
+    public static long tryToBytes(final String base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset, final Base64Format format) {
+        checkBase64StringBounds(base64, base64Offset, base64Length);
+        checkByteArrayIndex(bytes, bytesOffset);
+        return tryConvertToBytes(base64, base64Offset, base64Length, bytes, bytesOffset, format);
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array without the exception for the wrong base64 string.
+     *
+     * @param base64 the base64 string.
+     * @param format the format of the base64 string.
+     * @param result the holder of the result or the error.
+     *
+     * @return true, if the conversion succeeded.
+     */
+    public static boolean tryToBytes(final String base64, final Base64Format format, final Base64DecodeResult result) {
+        return tryToBytes(base64, 0, base64.length(), format, result);
+    }
+
+    /**
+     * Convert the base64 string in the specified format to the byte array without the exception for the wrong base64 string.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     * @param format       the format of the base64 string.
+     * @param result       the holder of the result or the error.
+     *
+     * @return true, if the conversion succeeded.
+     */
+    public static boolean tryToBytes(final String base64, final int base64Offset, final int base64Length, final Base64Format format, final Base64DecodeResult result) {
+        checkBase64StringBounds(base64, base64Offset, base64Length);
+        return tryConvertToBytes(base64, base64Offset, base64Length, format, result);
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array without the exception for the wrong base64 characters.
+     * The error code is decomposed with {@link #getDecodeError(long)} and {@link #getDecodeErrorIndex(long)}.
+     *
+     * @param base64 the base64 characters.
+     * @param bytes  the byte array to write the result.
+     * @param format the format of the base64 characters.
+     *
+     * @return the number of bytes affected in the byte array, or the negative error code.
+     */
+    public static long tryToBytes(final byte[] base64, final byte[] bytes, final Base64Format format) {
+        return tryToBytes(base64, 0, base64.length, bytes, 0, format);
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array without the exception for the wrong base64 characters.
+     * The error code is decomposed with {@link #getDecodeError(long)} and {@link #getDecodeErrorIndex(long)}.
+     * The byte array can be partially affected, if the wrong character is found.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     * @param bytes        the byte array to write the result.
+     * @param bytesOffset  the offset of the first element in the byte array.
+     * @param format       the format of the base64 characters.
+     *
+     * @return the number of bytes affected in the byte array, or the negative error code.
+     */
+    public static long tryToBytes(final byte[] base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset, final Base64Format format) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        checkByteArrayIndex(bytes, bytesOffset);
+        return tryConvertToBytes(base64, base64Offset, base64Length, bytes, bytesOffset, format);
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array without the exception for the wrong base64 characters.
+     *
+     * @param base64 the base64 characters.
+     * @param format the format of the base64 characters.
+     * @param result the holder of the result or the error.
+     *
+     * @return true, if the conversion succeeded.
+     */
+    public static boolean tryToBytes(final byte[] base64, final Base64Format format, final Base64DecodeResult result) {
+        return tryToBytes(base64, 0, base64.length, format, result);
+    }
+
+    /**
+     * Convert the base64 characters in the specified format, represented with the ASCII byte array, to the byte array without the exception for the wrong base64 characters.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     * @param format       the format of the base64 characters.
+     * @param result       the holder of the result or the error.
+     *
+     * @return true, if the conversion succeeded.
+     */
+    public static boolean tryToBytes(final byte[] base64, final int base64Offset, final int base64Length, final Base64Format format, final Base64DecodeResult result) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        return tryConvertToBytes(base64, base64Offset, base64Length, format, result);
+    }
+
+    private static long tryConvertToBytes(final Object base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset, final Base64Format format) {
+        int dataLength = getDataLength(base64, base64Offset, base64Length, format);
+        if (dataLength < 0) {
+            return createDecodeErrorStatus(Base64DecodeError.WRONG_LENGTH, base64Offset + base64Length);
+        }
+        int bytesLength = getDataBytesLength(dataLength);
+        if (bytesLength > bytes.length - bytesOffset) {
+            return createDecodeErrorStatus(Base64DecodeError.BYTE_ARRAY_OVERFLOW, base64Offset + base64Length);
+        }
+        int wrongCharacterIndex = convertToBytes(base64, base64Offset, base64Length, dataLength, bytes, bytesOffset, format);
+        if (wrongCharacterIndex >= 0) {
+            return createDecodeErrorStatus(Base64DecodeError.WRONG_CHARACTER, wrongCharacterIndex);
+        }
+        return bytesLength;
+    }
+
+    private static boolean tryConvertToBytes(final Object base64, final int base64Offset, final int base64Length, final Base64Format format, final Base64DecodeResult result) {
+        int dataLength = getDataLength(base64, base64Offset, base64Length, format);
+        if (dataLength < 0) {
+            result.setStatus(createDecodeErrorStatus(Base64DecodeError.WRONG_LENGTH, base64Offset + base64Length));
+            return false;
+        }
+        byte[] bytes = new byte[getDataBytesLength(dataLength)];
+        int wrongCharacterIndex = convertToBytes(base64, base64Offset, base64Length, dataLength, bytes, 0, format);
+        if (wrongCharacterIndex >= 0) {
+            result.setStatus(createDecodeErrorStatus(Base64DecodeError.WRONG_CHARACTER, wrongCharacterIndex));
+            return false;
+        }
+        result.setBytes(bytes);
+        return true;
+    }
+
+    /**
+     * Get the error from the status of the conversion without the exception.
+     *
+     * @param status the status of the conversion.
+     *
+     * @return the error, or null if the status is not the error code.
+     */
+    public static Base64DecodeError getDecodeError(final long status) {
+        if (status >= 0) {
+            return null;
+        } else {
+            return DECODE_ERRORS[(int) ((-status - 1) & 0x03)];
+        }
+    }
+
+    /**
+     * Get the index of the error from the status of the conversion without the exception.
+     *
+     * @param status the status of the conversion.
+     *
+     * @return the index of the error, or -1 if the status is not the error code.
+     */
+    public static int getDecodeErrorIndex(final long status) {
+        if (status >= 0) {
+            return -1;
+        } else {
+            return (int) ((-status - 1) >> 2);
+        }
+    }
+
+    static long createDecodeErrorStatus(final Base64DecodeError error, final int index) {
+        return -((long) index << 2 | error.ordinal()) - 1;
+    }
+
+    private static void checkByteArrayIndex(final byte[] bytes, final int bytesOffset) {
+        if (bytesOffset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset));
+        }
+        if (bytesOffset > bytes.length) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongByteArrayIndexMessage(bytesOffset));
+        }
+    }
+
+    static void checkBase64StringBounds(final String base64, final int base64Offset, final int base64Length) {
+        if (base64Offset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset));
+        }
+        if (base64Length < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
+        }
+        if (base64Offset + base64Length > base64.length()) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset + base64Length));
+        }
+    }
+
+    private static void checkBase64ArrayBounds(final byte[] base64, final int base64Offset, final int base64Length) {
+        if (base64Offset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(base64Offset));
+        }
+        if (base64Length < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64Length));
+        }
+        if (base64Offset + base64Length > base64.length) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(base64Offset + base64Length));
+        }
+    }
+
+    static int getEmptyBytesCount(final String base64, final int base64Offset, final int base64Length) {
+        if (base64.charAt(base64Offset + base64Length - 1) == Consts.PAD) {
+            if (base64.charAt(base64Offset + base64Length - 2) == Consts.PAD) {
+                return 2;
+            } else {
+                return 1;
+            }
+        } else {
+            return 0;
+        }
+    }
+
+    private static int getEmptyBytesCount(final byte[] base64, final int base64Offset, final int base64Length) {
+        if (base64[base64Offset + base64Length - 1] == Consts.PAD) {
+            if (base64[base64Offset + base64Length - 2] == Consts.PAD) {
+                return 2;
+            } else {
+                return 1;
+            }
+        } else {
+            return 0;
+        }
+    }
+
+    private static int getEmptyBytesCount(final ByteBuffer base64, final int base64Offset, final int base64Length) {
+        if (base64.get(base64Offset + base64Length - 1) == Consts.PAD) {
+            if (base64.get(base64Offset + base64Length - 2) == Consts.PAD) {
+                return 2;
+            } else {
+                return 1;
+            }
+        } else {
+            return 0;
+        }
+    }
+
+    private static int getDataLength(final Object base64, final int base64Offset, final int base64Length, final Base64Format format) {
+        if (!format.isStrict()) {
+            return getLenientDataLength(base64, base64Offset, base64Length, format);
+        }
+        int padsCount = 0;
+        if (format.isPadAllowed() && base64Length > 0 && getCharacter(base64, base64Offset + base64Length - 1) == Consts.PAD) {
+            padsCount = 1;
+            if (base64Length > 1 && getCharacter(base64, base64Offset + base64Length - 2) == Consts.PAD) {
+                padsCount = 2;
+            }
+        }
+        int dataLength = base64Length - padsCount;
+        if ((format.isPadRequired() || padsCount > 0) && base64Length % 4 != 0 || dataLength % 4 == 1) {
+            return -1;
+        }
+        return dataLength;
+    }
+
+    private static int getLenientDataLength(final Object base64, final int base64Offset, final int base64Length, final Base64Format format) {
+        Base64Alphabet alphabet = format.getAlphabet();
+        boolean padIsValid = format.isPadAllowed();
+        int dataLength = 0;
+        int padsCount = 0;
+        int character;
+        int base64EndIndex = base64Offset + base64Length;
+        for (int i = base64Offset; i < base64EndIndex; i++) {
+            character = getCharacter(base64, i);
+            if (alphabet.isCharacterValid(character)) {
+                dataLength++;
+            } else if (padIsValid && character == Consts.PAD) {
+                padsCount++;
+            }
+        }
+        if ((format.isPadRequired() || padsCount > 0) && (dataLength + padsCount) % 4 != 0 || dataLength % 4 == 1) {
+            return -1;
+        }
+        return dataLength;
+    }
+
+    private static int getDataBytesLength(final int dataLength) {
+        int dataLengthM4 = dataLength % 4;
+        if (dataLengthM4 == 0) {
+            return dataLength / 4 * 3;
+        } else {
+            return dataLength / 4 * 3 + dataLengthM4 - 1;
+        }
+    }
+
+    static void convertToBytes(final String base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset) {
+        int base64LengthD4M1 = base64Length / 4 - 1;
+        convertGroupsToBytes(base64, base64Offset, base64LengthD4M1, bytes, bytesOffset);
+        int base64Index = base64Offset + base64LengthD4M1 * 4;
+        int bytesIndex = bytesOffset + base64LengthD4M1 * 3;
+
+        int lastGroup = getLastBase64Group(base64.charAt(base64Index), base64.charAt(base64Index + 1), base64.charAt(base64Index + 2), base64.charAt(base64Index + 3));
+        if (lastGroup < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(-lastGroup - 1));
+        }
+        convertLastBase64Group(lastGroup, bytes, bytesIndex);
+    }
+
+    private static void convertToBytes(final byte[] base64, final int base64Offset, final int base64Length, final byte[] bytes, final int bytesOffset) {
+        int base64LengthD4M1 = base64Length / 4 - 1;
+        int vectorGroupsCount = VectorHelper.convertGroupsToBytes(base64, base64Offset, base64LengthD4M1, bytes, bytesOffset);
+        int base64Index = base64Offset + vectorGroupsCount * 4;
+        int group;
+        int bytesIndex = bytesOffset + vectorGroupsCount * 3;
+        for (int i = vectorGroupsCount; i < base64LengthD4M1; i++) {
+            group = getBase64Group(base64, base64Index);
+            base64Index += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+
+        int lastGroup = getLastBase64Group(base64[base64Index] & 0xFF, base64[base64Index + 1] & 0xFF, base64[base64Index + 2] & 0xFF, base64[base64Index + 3] & 0xFF);
+        if (lastGroup < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(-lastGroup - 1));
+        }
+        convertLastBase64Group(lastGroup, bytes, bytesIndex);
+    }
+
+    private static void convertToBytes(final ByteBuffer base64, final int base64Offset, final int base64Length, final ByteBuffer bytes, final int bytesOffset) {
+        int base64LengthD4M1 = base64Length / 4 - 1;
+        int validGroupsCount = convertValidGroupsToBytes(base64, base64Offset, base64LengthD4M1, bytes, bytesOffset);
+        int base64Index = base64Offset + validGroupsCount * 4;
+        if (validGroupsCount < base64LengthD4M1) {
+            throw createWrongCharacterException(base64.get(base64Index) & 0xFF, base64.get(base64Index + 1) & 0xFF, base64.get(base64Index + 2) & 0xFF, base64.get(base64Index + 3) & 0xFF);
+        }
+        int bytesIndex = bytesOffset + validGroupsCount * 3;
+
+        int lastGroup = getLastBase64Group(base64.get(base64Index) & 0xFF, base64.get(base64Index + 1) & 0xFF, base64.get(base64Index + 2) & 0xFF, base64.get(base64Index + 3) & 0xFF);
+        if (lastGroup < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(-lastGroup - 1));
+        }
+        int lastBytesCount = lastGroup >> 24;
+        for (int i = 0; i < lastBytesCount; i++) {
+            bytes.put(bytesIndex + i, (byte) (lastGroup >> 16 - i * 8));
+        }
+    }
+
+    private static int convertToBytes(final Object base64, final int base64Offset, final int base64Length, final int dataLength, final byte[] bytes, final int bytesOffset, final Base64Format format) {
+        if (format.isStrict()) {
+            return convertToBytesStrictly(base64, base64Offset, dataLength, bytes, bytesOffset, format.getAlphabet());
+        } else {
+            return convertToBytesLeniently(base64, base64Offset, base64Length, dataLength, bytes, bytesOffset, format);
+        }
+    }
+
+    private static int convertToBytesStrictly(final Object base64, final int base64Offset, final int dataLength, final byte[] bytes, final int bytesOffset, final Base64Alphabet alphabet) {
+        int dataLengthD4 = dataLength / 4;
+        int validGroupsCount = convertValidGroupsToBytes(base64, base64Offset, dataLengthD4, bytes, bytesOffset, alphabet);
+        int base64Index = base64Offset + validGroupsCount * 4;
+        int bytesIndex = bytesOffset + validGroupsCount * 3;
+        if (validGroupsCount < dataLengthD4) {
+            return getWrongCharacterIndex(base64, base64Index, 4, alphabet);
+        }
+
+        int dataLengthM4 = dataLength % 4;
+        int wrongCharacterIndex = getWrongCharacterIndex(base64, base64Index, dataLengthM4, alphabet);
+        if (wrongCharacterIndex >= 0) {
+            return wrongCharacterIndex;
+        }
+        int value1;
+        int value2;
+        int value3;
+        if (dataLengthM4 == 2) {
+            value1 = alphabet.getValue(getCharacter(base64, base64Index));
+            value2 = alphabet.getValue(getCharacter(base64, base64Index + 1));
+            if ((value2 & 0x0F) != 0) {
+                return base64Index + 1;
+            }
+            bytes[bytesIndex] = (byte) (value1 << 2 | value2 >> 4);
+        }
+        if (dataLengthM4 == 3) {
+            value1 = alphabet.getValue(getCharacter(base64, base64Index));
+            value2 = alphabet.getValue(getCharacter(base64, base64Index + 1));
+            value3 = alphabet.getValue(getCharacter(base64, base64Index + 2));
+            if ((value3 & 0x03) != 0) {
+                return base64Index + 2;
+            }
+            bytes[bytesIndex] = (byte) (value1 << 2 | value2 >> 4);
+            bytes[bytesIndex + 1] = (byte) (value2 << 4 | value3 >> 2);
+        }
+        return -1;
+    }
+
+    private static int convertToBytesLeniently(final Object base64, final int base64Offset, final int base64Length, final int dataLength, final byte[] bytes, final int bytesOffset, final Base64Format format) {
+        Base64Alphabet alphabet = format.getAlphabet();
+        int base64Index = base64Offset;
+        int base64EndIndex = base64Offset + base64Length;
+        int bytesIndex = bytesOffset;
+        long indexAndGroup;
+        int group;
+        int validGroupsCount;
+        int convertedGroupsCount = 0;
+        int dataLengthD4 = dataLength / 4;
+        while (convertedGroupsCount < dataLengthD4) {
+            validGroupsCount = convertValidGroupsToBytes(base64, base64Index, Math.min(dataLengthD4 - convertedGroupsCount, (base64EndIndex - base64Index) / 4), bytes, bytesIndex, alphabet);
+            base64Index += validGroupsCount * 4;
+            bytesIndex += validGroupsCount * 3;
+            convertedGroupsCount += validGroupsCount;
+            if (convertedGroupsCount < dataLengthD4) {
+                indexAndGroup = readCharacters(base64, base64Index, 4, format);
+                if (indexAndGroup < 0) {
+                    return (int) -indexAndGroup - 1;
+                }
+                base64Index = (int) (indexAndGroup >> 32);
+                group = (int) indexAndGroup;
+
+                bytes[bytesIndex] = (byte) (group >> 16);
+                bytes[bytesIndex + 1] = (byte) (group >> 8);
+                bytes[bytesIndex + 2] = (byte) group;
+                bytesIndex += 3;
+                convertedGroupsCount++;
+            }
+        }
+
+        int dataLengthM4 = dataLength % 4;
+        indexAndGroup = readCharacters(base64, base64Index, dataLengthM4, format);
+        if (indexAndGroup < 0) {
+            return (int) -indexAndGroup - 1;
+        }
+        base64Index = (int) (indexAndGroup >> 32);
+        if (!convertLastCharactersToBytes((int) indexAndGroup, dataLengthM4, bytes, bytesIndex)) {
+            return base64Index - 1;
+        }
+        return getWrongLastCharacterIndex(base64, base64Index, base64EndIndex, dataLengthM4, format);
+    }
+
+    static void convertGroupsToBytes(final String base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset) {
+        int base64Index = base64Offset;
+        int group;
+        int bytesIndex = bytesOffset;
+        for (int i = 0; i < groupsCount; i++) {
+            group = getBase64Group(base64, base64Index);
+            base64Index += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+    }
+
+    static void convertGroupsToBytes(final ByteBuffer base64, final int groupsCount, final ByteBuffer bytes) {
+        int validGroupsCount = convertValidGroupsToBytes(base64, groupsCount, bytes);
+        if (validGroupsCount < groupsCount) {
+            int base64Position = base64.position();
+            throw createWrongCharacterException(base64.get(base64Position) & 0xFF, base64.get(base64Position + 1) & 0xFF, base64.get(base64Position + 2) & 0xFF, base64.get(base64Position + 3) & 0xFF);
+        }
+    }
+
+    static int convertValidGroupsToBytes(final ByteBuffer base64, final int groupsCount, final ByteBuffer bytes) {
+        int base64Position = base64.position();
+        int bytesPosition = bytes.position();
+        int validGroupsCount;
+        if (base64.hasArray() && bytes.hasArray()) {
+            validGroupsCount = convertValidGroupsToBytes(base64.array(), base64.arrayOffset() + base64Position, groupsCount, bytes.array(), bytes.arrayOffset() + bytesPosition);
+        } else {
+            validGroupsCount = convertValidGroupsToBytes(base64, base64Position, groupsCount, bytes, bytesPosition);
+        }
+        base64.position(base64Position + validGroupsCount * 4);
+        bytes.position(bytesPosition + validGroupsCount * 3);
+        return validGroupsCount;
+    }
+
+    static int convertValidGroupsToBytes(final byte[] base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset) {
+        int vectorGroupsCount = VectorHelper.convertGroupsToBytes(base64, base64Offset, groupsCount, bytes, bytesOffset);
+        int base64Index = base64Offset + vectorGroupsCount * 4;
+        int bytesIndex = bytesOffset + vectorGroupsCount * 3;
+        int group;
+        for (int i = vectorGroupsCount; i < groupsCount; i++) {
+            group = getBase64Group(base64[base64Index] & 0xFF, base64[base64Index + 1] & 0xFF, base64[base64Index + 2] & 0xFF, base64[base64Index + 3] & 0xFF);
+            if (group < 0) {
+                return i;
+            }
+            base64Index += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+        return groupsCount;
+    }
+
+    private static int convertValidGroupsToBytes(final ByteBuffer base64, final int base64Offset, final int groupsCount, final ByteBuffer bytes, final int bytesOffset) {
+        byte[] chunk = CHUNK.get();
+        int chunkBytesOffset = CHUNK_GROUPS_COUNT * 4;
+        int convertedGroupsCount = 0;
+        int chunkGroupsCount;
+        int validGroupsCount;
+        while (convertedGroupsCount < groupsCount) {
+            chunkGroupsCount = Math.min(groupsCount - convertedGroupsCount, CHUNK_GROUPS_COUNT);
+            getChunk(base64, base64Offset + convertedGroupsCount * 4, chunk, 0, chunkGroupsCount * 4);
+            validGroupsCount = convertValidGroupsToBytes(chunk, 0, chunkGroupsCount, chunk, chunkBytesOffset);
+            putChunk(bytes, bytesOffset + convertedGroupsCount * 3, chunk, chunkBytesOffset, validGroupsCount * 3);
+            convertedGroupsCount += validGroupsCount;
+            if (validGroupsCount < chunkGroupsCount) {
+                break;
+            }
+        }
+        return convertedGroupsCount;
+    }
+
+    private static int convertValidGroupsToBytes(final Object base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset, final Base64Alphabet alphabet) {
+        if (base64 instanceof String) {
+            return convertValidGroupsToBytes((String) base64, base64Offset, groupsCount, bytes, bytesOffset, alphabet);
+        } else {
+            return convertValidGroupsToBytes((byte[]) base64, base64Offset, groupsCount, bytes, bytesOffset, alphabet);
+        }
+    }
+
+    static int convertValidGroupsToBytes(final String base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset, final Base64Alphabet alphabet) {
+        int base64Index = base64Offset;
+        int bytesIndex = bytesOffset;
+        int character1;
+        int character2;
+        int character3;
+        int character4;
+        int group;
+        for (int i = 0; i < groupsCount; i++) {
+            character1 = base64.charAt(base64Index);
+            character2 = base64.charAt(base64Index + 1);
+            character3 = base64.charAt(base64Index + 2);
+            character4 = base64.charAt(base64Index + 3);
+            if ((character1 | character2 | character3 | character4) < 256) {
+                group = alphabet.getGroup(character1, character2, character3, character4);
+            } else {
+                group = -1;
+            }
+            if (group < 0) {
+                return i;
+            }
+            base64Index += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+        return groupsCount;
+    }
+
+    static int convertValidGroupsToBytes(final byte[] base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset, final Base64Alphabet alphabet) {
+        int vectorGroupsCount = 0;
+        if (alphabet == Base64Alphabet.STANDARD) {
+            vectorGroupsCount = VectorHelper.convertGroupsToBytes(base64, base64Offset, groupsCount, bytes, bytesOffset);
+        }
+        int base64Index = base64Offset + vectorGroupsCount * 4;
+        int bytesIndex = bytesOffset + vectorGroupsCount * 3;
+        int group;
+        for (int i = vectorGroupsCount; i < groupsCount; i++) {
+            group = alphabet.getGroup(base64[base64Index] & 0xFF, base64[base64Index + 1] & 0xFF, base64[base64Index + 2] & 0xFF, base64[base64Index + 3] & 0xFF);
+            if (group < 0) {
+                return i;
+            }
+            base64Index += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+        return groupsCount;
+    }
+
+    private static void getChunk(final ByteBuffer buffer, final int bufferOffset, final byte[] chunk, final int chunkOffset, final int length) {
+        int position = buffer.position();
+        buffer.position(bufferOffset);
+        buffer.get(chunk, chunkOffset, length);
+        buffer.position(position);
+    }
+
+    private static void putChunk(final ByteBuffer buffer, final int bufferOffset, final byte[] chunk, final int chunkOffset, final int length) {
+        int position = buffer.position();
+        buffer.position(bufferOffset);
+        buffer.put(chunk, chunkOffset, length);
+        buffer.position(position);
+    }
+
+    private static int getCharacter(final Object base64, final int base64Index) {
+        if (base64 instanceof String) {
+            return ((String) base64).charAt(base64Index);
+        } else {
+            return ((byte[]) base64)[base64Index] & 0xFF;
+        }
+    }
+
+    private static int getWrongCharacterIndex(final Object base64, final int base64Index, final int charactersCount, final Base64Alphabet alphabet) {
+        for (int i = base64Index; i < base64Index + charactersCount; i++) {
+            if (!alphabet.isCharacterValid(getCharacter(base64, i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long readCharacters(final Object base64, final int base64Index, final int charactersCount, final Base64Format format) {
+        Base64Alphabet alphabet = format.getAlphabet();
+        int index = base64Index;
+        int count = 0;
+        int group = 0;
+        int character;
+        while (count < charactersCount) {
+            character = getCharacter(base64, index);
+            if (alphabet.isCharacterValid(character)) {
+                group = group << 6 | alphabet.getValue(character);
+                count++;
+            } else if (!format.isCharacterSkipped(character)) {
+                return -index - 1;
+            }
+            index++;
+        }
+        return (long) index << 32 | group;
+    }
+
+    private static boolean convertLastCharactersToBytes(final int group, final int charactersCount, final byte[] bytes, final int bytesIndex) {
+        if (charactersCount == 2) {
+            if ((group & 0x0F) != 0) {
+                return false;
+            }
+            bytes[bytesIndex] = (byte) (group >> 4);
+        }
+        if (charactersCount == 3) {
+            if ((group & 0x03) != 0) {
+                return false;
+            }
+            bytes[bytesIndex] = (byte) (group >> 10);
+            bytes[bytesIndex + 1] = (byte) (group >> 2);
+        }
+        return true;
+    }
+
+    private static int getWrongLastCharacterIndex(final Object base64, final int base64Index, final int base64EndIndex, final int charactersCount, final Base64Format format) {
+        int padsCount = 0;
+        int character;
+        for (int i = base64Index; i < base64EndIndex; i++) {
+            character = getCharacter(base64, i);
+            if (character == Consts.PAD && format.isPadAllowed() && padsCount < (4 - charactersCount) % 4) {
+                padsCount++;
+            } else if (!format.isCharacterSkipped(character)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int getBase64Group(final String base64, final int base64Index) {
+        int character1 = base64.charAt(base64Index);
+        int character2 = base64.charAt(base64Index + 1);
+        int character3 = base64.charAt(base64Index + 2);
+        int character4 = base64.charAt(base64Index + 3);
+        int group;
+        if ((character1 | character2 | character3 | character4) < 256) {
+            group = getBase64Group(character1, character2, character3, character4);
+        } else {
+            group = -1;
+        }
+        if (group < 0) {
+            throw createWrongCharacterException(character1, character2, character3, character4);
+        }
+        return group;
+    }
+
+    private static int getBase64Group(final byte[] base64, final int base64Index) {
+        int character1 = base64[base64Index] & 0xFF;
+        int character2 = base64[base64Index + 1] & 0xFF;
+        int character3 = base64[base64Index + 2] & 0xFF;
+        int character4 = base64[base64Index + 3] & 0xFF;
+        int group = getBase64Group(character1, character2, character3, character4);
+        if (group < 0) {
+            throw createWrongCharacterException(character1, character2, character3, character4);
+        }
+        return group;
+    }
+
+    static int getBase64Group(final int character1, final int character2, final int character3, final int character4) {
+        return Consts.FROM_BASE64_GROUP_1[character1] | Consts.FROM_BASE64_GROUP_2[character2] | Consts.FROM_BASE64_GROUP_3[character3] | Consts.FROM_BASE64_GROUP_4[character4];
+    }
+
+    private static Base64RuntimeException createWrongCharacterException(final int character1, final int character2, final int character3, final int character4) {
+        int character = character4;
+        if (!isBase64CharacterValid(character3)) {
+            character = character3;
+        }
+        if (!isBase64CharacterValid(character2)) {
+            character = character2;
+        }
+        if (!isBase64CharacterValid(character1)) {
+            character = character1;
+        }
+        return new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
+    }
+
+    static int getLastBase64Group(final int character1, final int character2, final int character3, final int character4) {
+        if (!isBase64CharacterValid(character1)) {
+            return -character1 - 1;
+        }
+        if (!isBase64CharacterValid(character2)) {
+            return -character2 - 1;
+        }
+        if (!isBase64CharacterValid(character3) && character3 != Consts.PAD) {
+            return -character3 - 1;
+        }
+        if (!isBase64CharacterValid(character4) && character4 != Consts.PAD) {
+            return -character4 - 1;
+        }
+        int firstByte = getFirstBase64Byte(character1, character2);
+        if (character4 != Consts.PAD) {
+            if (character3 == Consts.PAD) {
+                return -character4 - 1;
+            }
+            return 3 << 24 | firstByte << 16 | getSecondBase64Byte(character2, character3) << 8 | getThirdBase64Byte(character3, character4);
+        }
+        if (character3 == Consts.PAD) {
+            if (!isSecondBase64ByteZero(character2)) {
+                return -character2 - 1;
+            }
+            return 1 << 24 | firstByte << 16;
+        }
+        if (!isThirdBase64ByteZero(character3)) {
+            return -character3 - 1;
+        }
+        return 2 << 24 | firstByte << 16 | getSecondBase64Byte(character2, character3) << 8;
+    }
+
+    static int convertLastBase64Group(final int lastGroup, final byte[] bytes, final int bytesOffset) {
+        int bytesCount = lastGroup >> 24;
+        for (int i = 0; i < bytesCount; i++) {
+            bytes[bytesOffset + i] = (byte) (lastGroup >> 16 - i * 8);
+        }
+        return bytesCount;
+    }
+
+    static boolean isBase64CharacterValid(final int character) {
+        return character >= '+' && character < Consts.FROM_BASE64.length && Consts.FROM_BASE64[character] >= 0;
+    }
+
+    static boolean isSecondBase64ByteZero(final int character2) {
+        return Consts.FROM_BASE64_SECOND_BYTE_1[character2] == 0;
+    }
+
+    static boolean isThirdBase64ByteZero(final int character3) {
+        return Consts.FROM_BASE64_THIRD_BYTE_1[character3] == 0;
+    }
+
+    static int getFirstBase64Byte(final int character1, final int character2) {
+        return Consts.FROM_BASE64_FIRST_BYTE_1[character1] + Consts.FROM_BASE64_FIRST_BYTE_2[character2];
+    }
+
+    static int getSecondBase64Byte(final int character2, final int character3) {
+        return Consts.FROM_BASE64_SECOND_BYTE_1[character2] + Consts.FROM_BASE64_SECOND_BYTE_2[character3];
+    }
+
+    static int getThirdBase64Byte(final int character3, final int character4) {
+        return Consts.FROM_BASE64_THIRD_BYTE_1[character3] + Consts.FROM_BASE64_THIRD_BYTE_2[character4];
+    }
+
+    /**
+     * Get the number of the base64 characters, that represent the specified number of bytes.
+     *
+     * @param bytesLength the number of bytes.
+     *
+     * @return the number of the base64 characters.
+     */
+    public static long getBase64Length(final long bytesLength) {
+        if (bytesLength < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBytesLengthMessage(bytesLength));
+        }
+        long bytesLengthD3 = bytesLength / 3;
+        long bytesLengthM3 = bytesLength % 3;
+
+        long base64Length;
+        if (bytesLengthM3 == 0) {
+            base64Length = bytesLengthD3 * 4;
+        } else {
+            base64Length = (bytesLengthD3 + 1) * 4;
+        }
+        return base64Length;
+    }
+
+    /**
+     * Get the number of the base64 characters, that represent the specified number of bytes, split to the lines.
+     * The line separator is placed between the lines, but not after the last line.
+     *
+     * @param bytesLength         the number of bytes.
+     * @param lineLength          the maximum number of the base64 characters in the line, rounded down to the multiple of 4.
+     * @param lineSeparatorLength the number of characters in the line separator.
+     *
+     * @return the number of the base64 characters including the line separators.
+     */
+    public static long getBase64Length(final long bytesLength, final int lineLength, final int lineSeparatorLength) {
+        checkLineLength(lineLength, lineSeparatorLength);
+        long base64Length = getBase64Length(bytesLength);
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            return base64Length + (base64Length - 1) / (lineLength / 4 * 4) * lineSeparatorLength;
+        }
+    }
+
+    /**
+     * Get the maximum number of bytes, represented with the specified number of the base64 characters.
+     * The padding is not inspected, so the actual number of bytes can be up to 2 bytes less.
+     *
+     * @param base64Length the number of the base64 characters.
+     *
+     * @return the maximum number of bytes.
+     */
+    public static long getBytesLength(final long base64Length) {
+        if (base64Length < 0 || base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64LengthMessage(base64Length));
+        }
+        return base64Length / 4 * 3;
+    }
+
+    /**
+     * Get the maximum number of bytes, represented with the specified number of the base64 characters, split to the lines.
+     * The padding is not inspected, so the actual number of bytes can be up to 2 bytes less.
+     *
+     * @param base64Length        the number of the base64 characters including the line separators.
+     * @param lineLength          the maximum number of the base64 characters in the line, rounded down to the multiple of 4.
+     * @param lineSeparatorLength the number of characters in the line separator.
+     *
+     * @return the maximum number of bytes.
+     */
+    public static long getBytesLength(final long base64Length, final int lineLength, final int lineSeparatorLength) {
+        checkLineLength(lineLength, lineSeparatorLength);
+        if (base64Length < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64LengthMessage(base64Length));
+        }
+        long lineSeparatorsCount = base64Length / (lineLength / 4 * 4 + lineSeparatorLength);
+        return getBytesLength(base64Length - lineSeparatorsCount * lineSeparatorLength);
+    }
+
+    /**
+     * Get the number of bytes, represented with the base64 string. The padding is inspected, but the characters are not validated.
+     *
+     * @param base64 the base64 string.
+     *
+     * @return the number of bytes.
+     */
+    public static int getBytesLength(final String base64) {
+        int base64Length = base64.length();
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
+        }
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            return base64Length / 4 * 3 - getEmptyBytesCount(base64, 0, base64Length);
+        }
+    }
+
+    /**
+     * Get the number of bytes, represented with the base64 characters. The padding is inspected, but the characters are not validated.
+     *
+     * @param base64 the base64 characters.
+     *
+     * @return the number of bytes.
+     */
+    public static int getBytesLength(final byte[] base64) {
+        int base64Length = base64.length;
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(base64Length));
+        }
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            return base64Length / 4 * 3 - getEmptyBytesCount(base64, 0, base64Length);
+        }
+    }
+
+    /**
+     * Get the number of bytes, represented with the remaining base64 characters of the base64 buffer.
+     * The padding is inspected, but the characters are not validated. The position of the buffer is not changed.
+     *
+     * @param base64 the base64 buffer.
+     *
+     * @return the number of bytes.
+     */
+    public static int getBytesLength(final ByteBuffer base64) {
+        int base64Length = base64.remaining();
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(base64Length));
+        }
+        if (base64Length == 0) {
+            return 0;
+        } else {
+            return base64Length / 4 * 3 - getEmptyBytesCount(base64, base64.position(), base64Length);
+        }
+    }
+
+    private static void checkLineLength(final int lineLength, final int lineSeparatorLength) {
+        if (lineLength < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongLineLengthMessage(lineLength));
+        }
+        if (lineSeparatorLength < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongLineSeparatorLengthMessage(lineSeparatorLength));
+        }
+    }
+
+    /**
+     * Define, whether the base64 string contains only the base64 characters or not.
+     *
+     * @param base64 the base64 string.
+     *
+     * @return true, if the base64 string contains only the base64 characters.
+     */
+    public static boolean isBase64String(final String base64) {
+        return isBase64String(base64, 0, base64.length());
+    }
+
+    /**
+     * Define, whether the base64 string contains only the base64 characters or not.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     *
+     * @return true, if the base64 string contains only the base64 characters.
+     */
+    public static boolean isBase64String(final String base64, final int base64Offset, final int base64Length) {
+        if (base64Offset < 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringIndexMessage(base64Offset));
         }
         if (base64Length < 0) {
             throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
@@ -413,9 +1757,16 @@ public final class Base64Helper {
         }
 
         int base64Index = base64Offset;
+        int lastGroupIndex = base64Offset + base64Length - 4;
+        int lastBlockIndex = lastGroupIndex - 8;
+        while (base64Index <= lastBlockIndex) {
+            if (!SwarHelper.isBase64Block(SwarHelper.getBlock(base64, base64Index))) {
+                return false;
+            }
+            base64Index += 8;
+        }
         int currentCharacter;
-        int base64LengthM4 = base64Length - 4;
-        for (int i = 0; i < base64LengthM4; i++) {
+        while (base64Index < lastGroupIndex) {
             currentCharacter = base64.charAt(base64Index);
             if (!isBase64CharacterValid(currentCharacter)) {
                 return false;
@@ -427,6 +1778,64 @@ public final class Base64Helper {
         int character2 = base64.charAt(base64Index + 1);
         int character3 = base64.charAt(base64Index + 2);
         int character4 = base64.charAt(base64Index + 3);
+        return isLastBase64Group(character1, character2, character3, character4);
+    }
+
+    /**
+     * Define, whether the ASCII byte array contains only the base64 characters or not.
+     *
+     * @param base64 the base64 characters.
+     *
+     * @return true, if the ASCII byte array contains only the base64 characters.
+     */
+    public static boolean isBase64String(final byte[] base64) {
+        return isBase64String(base64, 0, base64.length);
+    }
+
+    /**
+     * Define, whether the ASCII byte array contains only the base64 characters or not.
+     *
+     * @param base64       the base64 characters.
+     * @param base64Offset the offset of the first element in the base64 characters.
+     * @param base64Length the number of elements in the base64 characters.
+     *
+     * @return true, if the ASCII byte array contains only the base64 characters.
+     */
+    public static boolean isBase64String(final byte[] base64, final int base64Offset, final int base64Length) {
+        checkBase64ArrayBounds(base64, base64Offset, base64Length);
+        if (base64Length == 0) {
+            return false;
+        }
+        if (base64Length % 4 != 0) {
+            return false;
+        }
+
+        int base64Index = base64Offset;
+        int lastGroupIndex = base64Offset + base64Length - 4;
+        int lastBlockIndex = lastGroupIndex - 8;
+        while (base64Index <= lastBlockIndex) {
+            if (!SwarHelper.isBase64Block(SwarHelper.getBlock(base64, base64Index))) {
+                return false;
+            }
+            base64Index += 8;
+        }
+        int currentCharacter;
+        while (base64Index < lastGroupIndex) {
+            currentCharacter = base64[base64Index] & 0xFF;
+            if (!isBase64CharacterValid(currentCharacter)) {
+                return false;
+            }
+            base64Index++;
+        }
+
+        int character1 = base64[base64Index] & 0xFF;
+        int character2 = base64[base64Index + 1] & 0xFF;
+        int character3 = base64[base64Index + 2] & 0xFF;
+        int character4 = base64[base64Index + 3] & 0xFF;
+        return isLastBase64Group(character1, character2, character3, character4);
+    }
+
+    private static boolean isLastBase64Group(final int character1, final int character2, final int character3, final int character4) {
         if (character4 == Consts.PAD) {
             if (character3 == Consts.PAD) {
                 return isBase64CharacterValid(character1) && isBase64CharacterValid(character2) && isSecondBase64ByteZero(character2);
@@ -438,4 +1847,22 @@ public final class Base64Helper {
         }
     }
 
+    /**
+     * The reusable array of the current thread to convert the buffers without the accessible array.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ChunkThreadLocal extends ThreadLocal<byte[]> {
+
+        ChunkThreadLocal() {
+            super();
+        }
+
+        @Override
+        protected byte[] initialValue() {
+            return new byte[CHUNK_GROUPS_COUNT * 7];
+        }
+
+    }
+
 }
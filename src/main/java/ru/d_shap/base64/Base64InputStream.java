@@ -33,22 +33,87 @@ public final class Base64InputStream extends InputStream {
 
     private static final int NEGATIVE_SKIP_RESULT = -1;
 
+    private static final int DEFAULT_CHARACTER_BUFFER_SIZE = 8192;
+
     private final InputStream _inputStream;
 
+    private final Base64Format _format;
+
+    private final boolean _concatenationAllowed;
+
     private final int[] _buffer;
 
     private int _bufferPosition;
 
+    private final byte[] _characterBuffer;
+
+    private int _characterBufferPosition;
+
+    private int _characterBufferLength;
+
+    private boolean _lastGroupDecoded;
+
     /**
      * Create new object.
+     * The base64 representation can consist of several concatenated padded base64 representations.
      *
      * @param inputStream input stream with the base64 representation of the bytes.
      */
     public Base64InputStream(final InputStream inputStream) {
+        this(inputStream, DEFAULT_CHARACTER_BUFFER_SIZE, Base64Format.STANDARD, true);
+    }
+
+    /**
+     * Create new object.
+     * The base64 representation can consist of several concatenated padded base64 representations.
+     *
+     * @param inputStream         input stream with the base64 representation of the bytes.
+     * @param characterBufferSize the size of the buffer for the base64 characters, read ahead from the input stream.
+     */
+    public Base64InputStream(final InputStream inputStream, final int characterBufferSize) {
+        this(inputStream, characterBufferSize, Base64Format.STANDARD, true);
+    }
+
+    /**
+     * Create new object.
+     * No base64 characters are allowed after the last padded or incomplete group.
+     *
+     * @param inputStream input stream with the base64 representation of the bytes.
+     * @param format      the format of the base64 representation.
+     */
+    public Base64InputStream(final InputStream inputStream, final Base64Format format) {
+        this(inputStream, DEFAULT_CHARACTER_BUFFER_SIZE, format);
+    }
+
+    /**
+     * Create new object.
+     * No base64 characters are allowed after the last padded or incomplete group.
+     *
+     * @param inputStream         input stream with the base64 representation of the bytes.
+     * @param characterBufferSize the size of the buffer for the base64 characters, read ahead from the input stream.
+     * @param format              the format of the base64 representation.
+     */
+    public Base64InputStream(final InputStream inputStream, final int characterBufferSize, final Base64Format format) {
+        this(inputStream, characterBufferSize, format, false);
+    }
+
+    private Base64InputStream(final InputStream inputStream, final int characterBufferSize, final Base64Format format, final boolean concatenationAllowed) {
         super();
+        if (format == null) {
+            throw new NullPointerException();
+        }
+        if (characterBufferSize < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBufferSizeMessage(characterBufferSize));
+        }
         _inputStream = inputStream;
+        _format = format;
+        _concatenationAllowed = concatenationAllowed;
         _buffer = new int[3];
         _bufferPosition = _buffer.length - 1;
+        _characterBuffer = new byte[characterBufferSize];
+        _characterBufferPosition = 0;
+        _characterBufferLength = 0;
+        _lastGroupDecoded = false;
     }
 
     @Override
@@ -66,46 +131,195 @@ public final class Base64InputStream extends InputStream {
         return _buffer[_bufferPosition];
     }
 
-    private int updateBuffer() throws IOException {
-        int character1 = readCharacterFromStream(false, false);
-        if (character1 == END_OF_STREAM) {
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (_bufferPosition == END_OF_STREAM) {
             return END_OF_STREAM;
         }
-        int character2 = readCharacterFromStream(true, false);
-        int character3 = readCharacterFromStream(true, true);
-        int character4 = readCharacterFromStream(true, true);
-
-        if (character4 == Consts.PAD) {
-            if (character3 == Consts.PAD) {
-                if (Base64Helper.isSecondBase64ByteZero(character2)) {
-                    _buffer[2] = Base64Helper.getFirstBase64Byte(character1, character2);
-                    return 2;
-                } else {
-                    throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character2));
+
+        int count = readFromBuffer(bytes, offset, length);
+        int decodedCount;
+        while (count < length && !_lastGroupDecoded) {
+            if (_characterBufferLength - _characterBufferPosition < 4) {
+                if (count > 0 && _inputStream.available() <= 0) {
+                    break;
+                }
+                if (!fillCharacterBuffer()) {
+                    break;
                 }
             } else {
-                if (Base64Helper.isThirdBase64ByteZero(character3)) {
-                    _buffer[1] = Base64Helper.getFirstBase64Byte(character1, character2);
-                    _buffer[2] = Base64Helper.getSecondBase64Byte(character2, character3);
-                    return 1;
+                if (length - count < 3) {
+                    decodedCount = decodeCharacterBufferToBuffer(bytes, offset + count, length - count);
                 } else {
-                    throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character3));
+                    decodedCount = decodeCharacterBuffer(bytes, offset + count, length - count);
                 }
+                if (decodedCount == 0) {
+                    break;
+                }
+                count += decodedCount;
             }
+        }
+
+        if (count == 0) {
+            int value = read();
+            if (value == END_OF_STREAM) {
+                return END_OF_STREAM;
+            }
+            bytes[offset] = (byte) value;
+            count = 1 + readFromBuffer(bytes, offset + 1, length - 1);
+        }
+        return count;
+    }
+
+    private int readFromBuffer(final byte[] bytes, final int offset, final int length) {
+        int count = Math.min(_buffer.length - _bufferPosition - 1, length);
+        for (int i = 0; i < count; i++) {
+            _bufferPosition++;
+            bytes[offset + i] = (byte) _buffer[_bufferPosition];
+        }
+        return count;
+    }
+
+    private boolean fillCharacterBuffer() throws IOException {
+        int unreadCharacters = _characterBufferLength - _characterBufferPosition;
+        System.arraycopy(_characterBuffer, _characterBufferPosition, _characterBuffer, 0, unreadCharacters);
+        _characterBufferPosition = 0;
+        _characterBufferLength = unreadCharacters;
+        int readCharacters = _inputStream.read(_characterBuffer, unreadCharacters, _characterBuffer.length - unreadCharacters);
+        if (readCharacters < 0) {
+            return false;
         } else {
-            if (character3 == Consts.PAD) {
-                throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character4));
-            } else {
-                _buffer[0] = Base64Helper.getFirstBase64Byte(character1, character2);
-                _buffer[1] = Base64Helper.getSecondBase64Byte(character2, character3);
-                _buffer[2] = Base64Helper.getThirdBase64Byte(character3, character4);
+            _characterBufferLength += readCharacters;
+            return true;
+        }
+    }
+
+    private int decodeCharacterBuffer(final byte[] bytes, final int offset, final int length) {
+        int groupsCount = Math.min(length / 3, (_characterBufferLength - _characterBufferPosition) / 4);
+        int bytesIndex = offset;
+        int group;
+        for (int i = 0; i < groupsCount; i++) {
+            group = getCharacterBufferGroup();
+            if (group < 0) {
+                break;
+            }
+            _characterBufferPosition += 4;
+
+            bytes[bytesIndex] = (byte) (group >> 16);
+            bytes[bytesIndex + 1] = (byte) (group >> 8);
+            bytes[bytesIndex + 2] = (byte) group;
+            bytesIndex += 3;
+        }
+        return bytesIndex - offset;
+    }
+
+    private int decodeCharacterBufferToBuffer(final byte[] bytes, final int offset, final int length) {
+        int group = getCharacterBufferGroup();
+        if (group < 0) {
+            return 0;
+        }
+        _characterBufferPosition += 4;
+
+        _buffer[0] = group >> 16;
+        _buffer[1] = group >> 8 & 0xFF;
+        _buffer[2] = group & 0xFF;
+        _bufferPosition = -1;
+        return readFromBuffer(bytes, offset, length);
+    }
+
+    private int getCharacterBufferGroup() {
+        int character1 = _characterBuffer[_characterBufferPosition] & 0xFF;
+        int character2 = _characterBuffer[_characterBufferPosition + 1] & 0xFF;
+        int character3 = _characterBuffer[_characterBufferPosition + 2] & 0xFF;
+        int character4 = _characterBuffer[_characterBufferPosition + 3] & 0xFF;
+        return _format.getAlphabet().getGroup(character1, character2, character3, character4);
+    }
+
+    private int updateBuffer() throws IOException {
+        if (_lastGroupDecoded) {
+            return checkEndOfStream();
+        }
+        if (_characterBufferLength - _characterBufferPosition >= 4) {
+            int group = getCharacterBufferGroup();
+            if (group >= 0) {
+                _characterBufferPosition += 4;
+                _buffer[0] = group >> 16;
+                _buffer[1] = group >> 8 & 0xFF;
+                _buffer[2] = group & 0xFF;
                 return 0;
             }
         }
+
+        int character1 = readCharacterFromStream(false, false);
+        if (character1 == END_OF_STREAM) {
+            return END_OF_STREAM;
+        }
+        int character2 = readCharacterFromStream(true, false);
+        int character3 = readCharacterFromStream(_format.isPadRequired(), _format.isPadAllowed());
+        int character4 = END_OF_STREAM;
+        if (character3 != END_OF_STREAM) {
+            character4 = readCharacterFromStream(_format.isPadRequired() || character3 == Consts.PAD, _format.isPadAllowed());
+        }
+
+        Base64Alphabet alphabet = _format.getAlphabet();
+        int value1 = alphabet.getValue(character1);
+        int value2 = alphabet.getValue(character2);
+        if (character3 == END_OF_STREAM || character3 == Consts.PAD) {
+            if (character3 == Consts.PAD && character4 != Consts.PAD) {
+                throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character4));
+            }
+            if ((value2 & 0x0F) != 0) {
+                throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character2));
+            }
+            _lastGroupDecoded = !_concatenationAllowed;
+            _buffer[2] = (value1 << 2 | value2 >> 4) & 0xFF;
+            return 2;
+        }
+        int value3 = alphabet.getValue(character3);
+        if (character4 == END_OF_STREAM || character4 == Consts.PAD) {
+            if ((value3 & 0x03) != 0) {
+                throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character3));
+            }
+            _lastGroupDecoded = !_concatenationAllowed;
+            _buffer[1] = (value1 << 2 | value2 >> 4) & 0xFF;
+            _buffer[2] = (value2 << 4 | value3 >> 2) & 0xFF;
+            return 1;
+        }
+        int value4 = alphabet.getValue(character4);
+        _buffer[0] = (value1 << 2 | value2 >> 4) & 0xFF;
+        _buffer[1] = (value2 << 4 | value3 >> 2) & 0xFF;
+        _buffer[2] = (value3 << 6 | value4) & 0xFF;
+        return 0;
+    }
+
+    private int checkEndOfStream() throws IOException {
+        int character = readCharacterFromStream(false, false);
+        if (character == END_OF_STREAM) {
+            return END_OF_STREAM;
+        } else {
+            throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
+        }
     }
 
     private int readCharacterFromStream(final boolean checkEndOfInput, final boolean padIsValid) throws IOException {
-        int character = _inputStream.read();
+        int character;
+        do {
+            if (_characterBufferPosition == _characterBufferLength) {
+                fillCharacterBuffer();
+            }
+            if (_characterBufferPosition < _characterBufferLength) {
+                character = _characterBuffer[_characterBufferPosition] & 0xFF;
+                _characterBufferPosition++;
+            } else {
+                character = END_OF_STREAM;
+            }
+        } while (character >= 0 && _format.isCharacterSkipped(character));
         if (character < 0) {
             if (checkEndOfInput) {
                 throw new IOException(ExceptionMessageHelper.createEndOfStreamMessage());
@@ -113,7 +327,7 @@ public final class Base64InputStream extends InputStream {
                 return END_OF_STREAM;
             }
         }
-        if (Base64Helper.isBase64CharacterValid(character) || padIsValid && character == Consts.PAD) {
+        if (_format.getAlphabet().isCharacterValid(character) || padIsValid && character == Consts.PAD) {
             return character;
         } else {
             throw new IOException(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(character));
@@ -125,6 +339,9 @@ public final class Base64InputStream extends InputStream {
         if (count < 0) {
             return NEGATIVE_SKIP_RESULT;
         }
+        if (!_format.isStrict()) {
+            return super.skip(count);
+        }
         long skipped = skipInCurrentBuffer(count);
         skipped += skipInInputStream(count - skipped);
         if (skipped == count) {
@@ -140,27 +357,68 @@ public final class Base64InputStream extends InputStream {
 
     private long skipInCurrentBuffer(final long count) {
         int unreadBytesInBuffer = _buffer.length - _bufferPosition - 1;
-        _bufferPosition = Math.min(_buffer.length - 1, _bufferPosition + (int) count);
-        return Math.min(unreadBytesInBuffer, count);
+        int skippedBytes = (int) Math.min(unreadBytesInBuffer, count);
+        _bufferPosition += skippedBytes;
+        return skippedBytes;
     }
 
     private long skipInInputStream(final long count) throws IOException {
+        if (_lastGroupDecoded) {
+            return 0L;
+        }
         long countCharacters = count / 3L * 4L;
-        long skippedCharacters = _inputStream.skip(countCharacters);
-        return skippedCharacters / 4L * 3L;
+        int skippedBufferCharacters = (int) Math.min(_characterBufferLength - _characterBufferPosition, countCharacters);
+        _characterBufferPosition += skippedBufferCharacters;
+        long skippedCharacters = skippedBufferCharacters;
+        long currentSkippedCharacters;
+        while (skippedCharacters < countCharacters) {
+            currentSkippedCharacters = _inputStream.skip(countCharacters - skippedCharacters);
+            if (currentSkippedCharacters <= 0L) {
+                break;
+            }
+            skippedCharacters += currentSkippedCharacters;
+        }
+        while (skippedCharacters % 4L != 0L && skipCharacterFromStream()) {
+            skippedCharacters++;
+        }
+        long skippedBytes = skippedCharacters / 4L * 3L;
+        long skippedCharactersM4 = skippedCharacters % 4L;
+        if (!_format.isPadRequired() && skippedCharactersM4 > 1L) {
+            skippedBytes += skippedCharactersM4 - 1L;
+        }
+        return skippedBytes;
+    }
+
+    private boolean skipCharacterFromStream() throws IOException {
+        if (_characterBufferPosition == _characterBufferLength) {
+            fillCharacterBuffer();
+        }
+        if (_characterBufferPosition < _characterBufferLength) {
+            _characterBufferPosition++;
+            return true;
+        } else {
+            return false;
+        }
     }
 
     private long skipInUpdatedBuffer(final long count) {
         int unreadBytesInBuffer = _buffer.length - _bufferPosition;
-        _bufferPosition = Math.min(_buffer.length - 1, _bufferPosition + (int) count - 1);
-        return Math.min(unreadBytesInBuffer, count);
+        int skippedBytes = (int) Math.min(unreadBytesInBuffer, count);
+        _bufferPosition += skippedBytes - 1;
+        return skippedBytes;
     }
 
     @Override
     public int available() throws IOException {
-        int availableCharacters = _inputStream.available();
-        int unreadBytesInBuffer = _buffer.length - _bufferPosition - 1;
-        return unreadBytesInBuffer + availableCharacters / 4 * 3;
+        if (_bufferPosition == END_OF_STREAM) {
+            return 0;
+        }
+        if (!_format.isStrict() || _lastGroupDecoded) {
+            return _buffer.length - _bufferPosition - 1;
+        }
+        long availableCharacters = (long) _characterBufferLength - _characterBufferPosition + _inputStream.available();
+        long availableBytes = _buffer.length - _bufferPosition - 1 + availableCharacters / 4 * 3;
+        return (int) Math.min(availableBytes, Integer.MAX_VALUE);
     }
 
     @Override
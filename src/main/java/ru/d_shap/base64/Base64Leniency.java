@@ -0,0 +1,44 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Leniency of the base64 representation decoding.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum Base64Leniency {
+
+    /**
+     * Only the base64 characters and the pad characters are allowed.
+     */
+    STRICT,
+
+    /**
+     * The ASCII whitespace characters are skipped: the space, the tab, the line feed, the vertical tab, the form feed and the carriage return.
+     */
+    SKIP_WHITESPACE,
+
+    /**
+     * All characters, that are not the base64 characters of the alphabet or the allowed pad characters, are skipped.
+     */
+    SKIP_NON_ALPHABET
+
+}
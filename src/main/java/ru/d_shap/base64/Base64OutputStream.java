@@ -24,68 +24,176 @@ import java.io.OutputStream;
 
 /**
  * Output stream to write the base64 representation of the bytes.
+ * The base64 characters are accumulated in the output buffer and are written to the stream,
+ * when the output buffer is full, when the stream is flushed and when the stream is closed.
+ * If the format specifies the line wrapping, the line separator is written before the next line, so the last line is not followed by the separator.
  *
  * @author Dmitry Shapovalov
  */
 public final class Base64OutputStream extends OutputStream {
 
+    private static final int DEFAULT_OUTPUT_BUFFER_SIZE = 8192;
+
     private final OutputStream _outputStream;
 
-    private final int[] _buffer;
+    private final Base64Format _format;
+
+    private final byte[] _buffer;
 
     private int _bufferPosition;
 
+    private final byte[] _outputBuffer;
+
+    private int _outputBufferPosition;
+
+    private int _lineCharactersCount;
+
     /**
      * Create new object.
      *
      * @param outputStream output stream with the base64 representation of the bytes.
      */
     public Base64OutputStream(final OutputStream outputStream) {
+        this(outputStream, DEFAULT_OUTPUT_BUFFER_SIZE, Base64Format.STANDARD);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param outputStream     output stream with the base64 representation of the bytes.
+     * @param outputBufferSize the size of the output buffer, rounded down to the multiple of 4.
+     */
+    public Base64OutputStream(final OutputStream outputStream, final int outputBufferSize) {
+        this(outputStream, outputBufferSize, Base64Format.STANDARD);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param outputStream output stream with the base64 representation of the bytes.
+     * @param format       the format of the base64 representation.
+     */
+    public Base64OutputStream(final OutputStream outputStream, final Base64Format format) {
+        this(outputStream, DEFAULT_OUTPUT_BUFFER_SIZE, format);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param outputStream     output stream with the base64 representation of the bytes.
+     * @param outputBufferSize the size of the output buffer, rounded down to the multiple of 4.
+     * @param format           the format of the base64 representation.
+     */
+    public Base64OutputStream(final OutputStream outputStream, final int outputBufferSize, final Base64Format format) {
         super();
+        if (format == null) {
+            throw new NullPointerException();
+        }
+        if (outputBufferSize < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBufferSizeMessage(outputBufferSize));
+        }
         _outputStream = outputStream;
-        _buffer = new int[3];
+        _format = format;
+        _buffer = new byte[3];
+        _bufferPosition = 0;
+        _outputBuffer = new byte[outputBufferSize / 4 * 4];
+        _outputBufferPosition = 0;
+        _lineCharactersCount = 0;
     }
 
     @Override
     public void write(final int value) throws IOException {
-        _buffer[_bufferPosition] = value & 0xFF;
+        _buffer[_bufferPosition] = (byte) value;
         _bufferPosition++;
         if (_bufferPosition == _buffer.length) {
-            writeBufferToOutputStream();
-            _bufferPosition = 0;
+            writeBufferToOutputBuffer();
+        }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        int bytesIndex = offset;
+        int bytesEndIndex = offset + length;
+        while (_bufferPosition > 0 && bytesIndex < bytesEndIndex) {
+            write(bytes[bytesIndex]);
+            bytesIndex++;
+        }
+
+        int groupsCount = (bytesEndIndex - bytesIndex) / 3;
+        int currentGroupsCount;
+        while (groupsCount > 0) {
+            prepareOutputBuffer();
+            currentGroupsCount = Math.min(groupsCount, (_outputBuffer.length - _outputBufferPosition) / 4);
+            if (_format.getLineLength() > 0) {
+                currentGroupsCount = Math.min(currentGroupsCount, (_format.getLineLength() - _lineCharactersCount) / 4);
+            }
+            Base64Helper.convertGroupsToBase64(bytes, bytesIndex, currentGroupsCount, _outputBuffer, _outputBufferPosition, _format.getAlphabet());
+            _outputBufferPosition += currentGroupsCount * 4;
+            _lineCharactersCount += currentGroupsCount * 4;
+            if (_outputBufferPosition == _outputBuffer.length) {
+                writeOutputBufferToOutputStream();
+            }
+            bytesIndex += currentGroupsCount * 3;
+            groupsCount -= currentGroupsCount;
+        }
+
+        while (bytesIndex < bytesEndIndex) {
+            _buffer[_bufferPosition] = bytes[bytesIndex];
+            _bufferPosition++;
+            bytesIndex++;
         }
     }
 
     @Override
     public void flush() throws IOException {
+        writeOutputBufferToOutputStream();
         _outputStream.flush();
     }
 
     @Override
     public void close() throws IOException {
-        writeBufferToOutputStream();
-        _bufferPosition = 0;
+        if (_bufferPosition > 0) {
+            writeBufferToOutputBuffer();
+        }
+        writeOutputBufferToOutputStream();
         _outputStream.close();
     }
 
-    private void writeBufferToOutputStream() throws IOException {
-        if (_bufferPosition == 1) {
-            _outputStream.write(Base64Helper.getFirstBase64Character(_buffer[0]));
-            _outputStream.write(Base64Helper.getSecondBase64Character(_buffer[0]));
-            _outputStream.write(Consts.PAD);
-            _outputStream.write(Consts.PAD);
+    private void writeBufferToOutputBuffer() throws IOException {
+        prepareOutputBuffer();
+        int charactersCount = Base64Helper.convertToBase64(_buffer, 0, _bufferPosition, _outputBuffer, _outputBufferPosition, _format);
+        _outputBufferPosition += charactersCount;
+        _lineCharactersCount += charactersCount;
+        _bufferPosition = 0;
+        if (_outputBufferPosition == _outputBuffer.length) {
+            writeOutputBufferToOutputStream();
         }
-        if (_bufferPosition == 2) {
-            _outputStream.write(Base64Helper.getFirstBase64Character(_buffer[0]));
-            _outputStream.write(Base64Helper.getSecondBase64Character(_buffer[0], _buffer[1]));
-            _outputStream.write(Base64Helper.getThirdBase64Character(_buffer[1]));
-            _outputStream.write(Consts.PAD);
+    }
+
+    private void prepareOutputBuffer() throws IOException {
+        if (_format.getLineLength() > 0 && _lineCharactersCount == _format.getLineLength()) {
+            byte[] lineSeparator = _format.getLineSeparatorBytes();
+            for (byte character : lineSeparator) {
+                if (_outputBufferPosition == _outputBuffer.length) {
+                    writeOutputBufferToOutputStream();
+                }
+                _outputBuffer[_outputBufferPosition] = character;
+                _outputBufferPosition++;
+            }
+            _lineCharactersCount = 0;
+        }
+        if (_outputBuffer.length - _outputBufferPosition < 4) {
+            writeOutputBufferToOutputStream();
         }
-        if (_bufferPosition == 3) {
-            _outputStream.write(Base64Helper.getFirstBase64Character(_buffer[0]));
-            _outputStream.write(Base64Helper.getSecondBase64Character(_buffer[0], _buffer[1]));
-            _outputStream.write(Base64Helper.getThirdBase64Character(_buffer[1], _buffer[2]));
-            _outputStream.write(Base64Helper.getFourthBase64Character(_buffer[2]));
+    }
+
+    private void writeOutputBufferToOutputStream() throws IOException {
+        if (_outputBufferPosition > 0) {
+            _outputStream.write(_outputBuffer, 0, _outputBufferPosition);
+            _outputBufferPosition = 0;
         }
     }
 
@@ -0,0 +1,44 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Padding of the base64 representation.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum Base64Padding {
+
+    /**
+     * The incomplete last group is padded with the pad characters, the pad characters are required for the decoding.
+     */
+    PADDED,
+
+    /**
+     * The incomplete last group is not padded, the pad characters are not allowed for the decoding.
+     */
+    UNPADDED,
+
+    /**
+     * The incomplete last group is padded with the pad characters, the pad characters are optional for the decoding.
+     */
+    OPTIONAL
+
+}
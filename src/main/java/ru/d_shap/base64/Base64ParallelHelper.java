@@ -0,0 +1,226 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to perform the bytes-to-base64 and the base64-to-bytes conversions of the large data in parallel.
+ * The data is split to the chunks on the 3-byte or the 4-character boundaries, and each chunk is converted with the separate fork/join task.
+ * Each task writes the result directly to the precomputed position of the result.
+ * The data, that is not greater than the threshold, is converted sequentially.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64ParallelHelper {
+
+    /**
+     * The default threshold in bytes or in base64 characters.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+
+    private static final int TASKS_PER_THREAD = 4;
+
+    private Base64ParallelHelper() {
+        super();
+    }
+
+    /**
+     * Convert the byte array to the base64 string in parallel with the default pool and the default threshold.
+     *
+     * @param bytes the byte array.
+     *
+     * @return the base64 string.
+     */
+    public static String toBase64(final byte[] bytes) {
+        return toBase64(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Convert the byte array to the base64 string in parallel with the default pool and the default threshold.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     *
+     * @return the base64 string.
+     */
+    public static String toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength) {
+        return toBase64(bytes, bytesOffset, bytesLength, DefaultPoolHolder.POOL, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Convert the byte array to the base64 string in parallel.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     * @param pool        the pool to execute the tasks.
+     * @param threshold   the number of bytes, that are converted sequentially, must be positive.
+     *
+     * @return the base64 string.
+     */
+    public static String toBase64(final byte[] bytes, final int bytesOffset, final int bytesLength, final ForkJoinPool pool, final int threshold) {
+        byte[] base64 = toBase64Bytes(bytes, bytesOffset, bytesLength, pool, threshold);
+        return new String(base64, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array,
+     * in parallel with the default pool and the default threshold.
+     *
+     * @param bytes the byte array.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes) {
+        return toBase64Bytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array,
+     * in parallel with the default pool and the default threshold.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes, final int bytesOffset, final int bytesLength) {
+        return toBase64Bytes(bytes, bytesOffset, bytesLength, DefaultPoolHolder.POOL, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Convert the byte array to the base64 characters, represented with the ASCII byte array, in parallel.
+     *
+     * @param bytes       the byte array.
+     * @param bytesOffset the offset of the first element in the byte array.
+     * @param bytesLength the number of elements in the byte array.
+     * @param pool        the pool to execute the tasks.
+     * @param threshold   the number of bytes, that are converted sequentially, must be positive.
+     *
+     * @return the base64 characters.
+     */
+    public static byte[] toBase64Bytes(final byte[] bytes, final int bytesOffset, final int bytesLength, final ForkJoinPool pool, final int threshold) {
+        Base64Helper.checkByteArrayBounds(bytes, bytesOffset, bytesLength);
+        checkThreshold(threshold);
+
+        byte[] base64 = new byte[Base64Helper.getBase64StringLength(bytesLength)];
+        if (bytesLength <= threshold) {
+            Base64Helper.convertToBase64(bytes, bytesOffset, bytesLength, base64, 0);
+        } else {
+            int chunkLength = getChunkLength(bytesLength, pool, threshold);
+            pool.invoke(new Base64EncoderTask(bytes, bytesOffset, bytesLength, base64, 0, chunkLength));
+        }
+        return base64;
+    }
+
+    /**
+     * Convert the base64 string to the byte array in parallel with the default pool and the default threshold.
+     *
+     * @param base64 the base64 string.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final String base64) {
+        return toBytes(base64, 0, base64.length());
+    }
+
+    /**
+     * Convert the base64 string to the byte array in parallel with the default pool and the default threshold.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final String base64, final int base64Offset, final int base64Length) {
+        return toBytes(base64, base64Offset, base64Length, DefaultPoolHolder.POOL, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Convert the base64 string to the byte array in parallel.
+     * If the base64 string contains several wrong characters, then the exception for the first of them is thrown.
+     *
+     * @param base64       the base64 string.
+     * @param base64Offset the offset of the first element in the base64 string.
+     * @param base64Length the number of elements in the base64 string.
+     * @param pool         the pool to execute the tasks.
+     * @param threshold    the number of base64 characters, that are converted sequentially, must be positive.
+     *
+     * @return the byte array with the result.
+     */
+    public static byte[] toBytes(final String base64, final int base64Offset, final int base64Length, final ForkJoinPool pool, final int threshold) {
+        Base64Helper.checkBase64StringBounds(base64, base64Offset, base64Length);
+        checkThreshold(threshold);
+        if (base64Length % 4 != 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBase64StringLengthMessage(base64Length));
+        }
+
+        if (base64Length == 0) {
+            return new byte[0];
+        } else {
+            int emptyBytesCount = Base64Helper.getEmptyBytesCount(base64, base64Offset, base64Length);
+            byte[] bytes = new byte[base64Length / 4 * 3 - emptyBytesCount];
+            if (base64Length <= threshold) {
+                Base64Helper.convertToBytes(base64, base64Offset, base64Length, bytes, 0);
+            } else {
+                int chunkLength = getChunkLength(base64Length, pool, threshold);
+                Base64DecoderTask task = new Base64DecoderTask(base64, base64Offset, base64Length, bytes, 0, true, chunkLength);
+                pool.invoke(task);
+                Base64RuntimeException exception = task.getConversionException();
+                if (exception != null) {
+                    throw exception;
+                }
+            }
+            return bytes;
+        }
+    }
+
+    private static void checkThreshold(final int threshold) {
+        if (threshold <= 0) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongThresholdMessage(threshold));
+        }
+    }
+
+    static int getChunkLength(final int length, final ForkJoinPool pool, final int threshold) {
+        int tasksCount = pool.getParallelism() * TASKS_PER_THREAD;
+        return Math.max(threshold, length / tasksCount);
+    }
+
+    /**
+     * Holder of the default pool, the pool is created on the first use.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class DefaultPoolHolder {
+
+        static final ForkJoinPool POOL = new ForkJoinPool();
+
+        private DefaultPoolHolder() {
+            super();
+        }
+
+    }
+
+}
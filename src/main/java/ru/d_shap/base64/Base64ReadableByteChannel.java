@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Channel to read the bytes from the base64 representation, obtained from the wrapped channel.
+ * The base64 characters are read ahead to the character buffer with the bulk reads and are decoded
+ * directly to the destination buffer. If the character buffer or the destination buffer is a direct buffer,
+ * then the groups are staged through the bounded reusable array of the current thread.
+ * If the wrapped channel is in the non-blocking mode, then zero bytes can be read.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64ReadableByteChannel implements ReadableByteChannel {
+
+    private static final int DEFAULT_CHARACTER_BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel _channel;
+
+    private final Base64Decoder _decoder;
+
+    private final ByteBuffer _characterBuffer;
+
+    private boolean _endOfInput;
+
+    private boolean _open;
+
+    /**
+     * Create new object.
+     *
+     * @param channel channel with the base64 representation of the bytes.
+     */
+    public Base64ReadableByteChannel(final ReadableByteChannel channel) {
+        this(channel, DEFAULT_CHARACTER_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param channel             channel with the base64 representation of the bytes.
+     * @param characterBufferSize the size of the character buffer.
+     */
+    public Base64ReadableByteChannel(final ReadableByteChannel channel, final int characterBufferSize) {
+        this(channel, characterBufferSize, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param channel             channel with the base64 representation of the bytes.
+     * @param characterBufferSize the size of the character buffer.
+     * @param directBuffer        true if the character buffer should be allocated as a direct buffer, the direct buffer
+     *                            is decoded through the bounded reusable array of the current thread.
+     */
+    public Base64ReadableByteChannel(final ReadableByteChannel channel, final int characterBufferSize, final boolean directBuffer) {
+        super();
+        if (characterBufferSize < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBufferSizeMessage(characterBufferSize));
+        }
+        _channel = channel;
+        _decoder = new Base64Decoder();
+        if (directBuffer) {
+            _characterBuffer = ByteBuffer.allocateDirect(characterBufferSize);
+        } else {
+            _characterBuffer = ByteBuffer.allocate(characterBufferSize);
+        }
+        _characterBuffer.flip();
+        _endOfInput = false;
+        _open = true;
+    }
+
+    @Override
+    public int read(final ByteBuffer bytes) throws IOException {
+        if (!_open) {
+            throw new ClosedChannelException();
+        }
+        if (!bytes.hasRemaining()) {
+            return 0;
+        }
+        int position = bytes.position();
+        while (decode(bytes) == Base64Result.UNDERFLOW && bytes.position() == position) {
+            if (_endOfInput) {
+                return -1;
+            }
+            if (!fillCharacterBuffer()) {
+                break;
+            }
+        }
+        return bytes.position() - position;
+    }
+
+    private Base64Result decode(final ByteBuffer bytes) throws IOException {
+        try {
+            return _decoder.decode(_characterBuffer, bytes, _endOfInput);
+        } catch (Base64RuntimeException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+    }
+
+    private boolean fillCharacterBuffer() throws IOException {
+        _characterBuffer.compact();
+        int count;
+        try {
+            count = _channel.read(_characterBuffer);
+        } finally {
+            _characterBuffer.flip();
+        }
+        if (count < 0) {
+            _endOfInput = true;
+        }
+        return count != 0;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return _open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (_open) {
+            _open = false;
+            _channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Task to convert the window of the source file to the window of the target file.
+ * The exception is not thrown by the task, but is kept to report the exception of the first window.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Base64WindowTask implements Runnable {
+
+    private final ByteBuffer _source;
+
+    private final ByteBuffer _target;
+
+    private final boolean _encode;
+
+    private final boolean _last;
+
+    private Base64RuntimeException _exception;
+
+    Base64WindowTask(final ByteBuffer source, final ByteBuffer target, final boolean encode, final boolean last) {
+        super();
+        _source = source;
+        _target = target;
+        _encode = encode;
+        _last = last;
+        _exception = null;
+    }
+
+    @Override
+    public void run() {
+        try {
+            Base64FileHelper.convertWindow(_source, _target, _encode, _last);
+        } catch (Base64RuntimeException ex) {
+            _exception = ex;
+        }
+    }
+
+    Base64RuntimeException getConversionException() {
+        return _exception;
+    }
+
+}
@@ -0,0 +1,151 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Channel to write the base64 representation of the bytes to the wrapped channel.
+ * The bytes are encoded directly from the source buffer to the output buffer. If the source buffer or the output buffer
+ * is a direct buffer, then the groups are staged through the bounded reusable array of the current thread.
+ * The base64 characters are written to the wrapped channel, when the output buffer is full, when the channel is flushed
+ * and when the channel is closed. The wrapped channel should be in the blocking mode.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64WritableByteChannel implements WritableByteChannel {
+
+    private static final int DEFAULT_OUTPUT_BUFFER_SIZE = 8192;
+
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    private final WritableByteChannel _channel;
+
+    private final Base64Encoder _encoder;
+
+    private final ByteBuffer _outputBuffer;
+
+    private boolean _open;
+
+    /**
+     * Create new object.
+     *
+     * @param channel channel with the base64 representation of the bytes.
+     */
+    public Base64WritableByteChannel(final WritableByteChannel channel) {
+        this(channel, DEFAULT_OUTPUT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param channel          channel with the base64 representation of the bytes.
+     * @param outputBufferSize the size of the output buffer.
+     */
+    public Base64WritableByteChannel(final WritableByteChannel channel, final int outputBufferSize) {
+        this(channel, outputBufferSize, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param channel          channel with the base64 representation of the bytes.
+     * @param outputBufferSize the size of the output buffer.
+     * @param directBuffer     true if the output buffer should be allocated as a direct buffer, the direct buffer
+     *                         is encoded through the bounded reusable array of the current thread.
+     */
+    public Base64WritableByteChannel(final WritableByteChannel channel, final int outputBufferSize, final boolean directBuffer) {
+        super();
+        if (outputBufferSize < 4) {
+            throw new Base64RuntimeException(ExceptionMessageHelper.createWrongBufferSizeMessage(outputBufferSize));
+        }
+        _channel = channel;
+        _encoder = new Base64Encoder();
+        if (directBuffer) {
+            _outputBuffer = ByteBuffer.allocateDirect(outputBufferSize);
+        } else {
+            _outputBuffer = ByteBuffer.allocate(outputBufferSize);
+        }
+        _open = true;
+    }
+
+    @Override
+    public int write(final ByteBuffer bytes) throws IOException {
+        if (!_open) {
+            throw new ClosedChannelException();
+        }
+        int count = bytes.remaining();
+        while (_encoder.encode(bytes, _outputBuffer, false) == Base64Result.OVERFLOW) {
+            writeOutputBuffer();
+        }
+        if (!_outputBuffer.hasRemaining()) {
+            writeOutputBuffer();
+        }
+        return count;
+    }
+
+    /**
+     * Write the accumulated base64 characters to the wrapped channel.
+     * The incomplete group is kept until the channel is closed.
+     *
+     * @throws IOException IO exception.
+     */
+    public void flush() throws IOException {
+        if (!_open) {
+            throw new ClosedChannelException();
+        }
+        writeOutputBuffer();
+    }
+
+    private void writeOutputBuffer() throws IOException {
+        _outputBuffer.flip();
+        try {
+            while (_outputBuffer.hasRemaining()) {
+                _channel.write(_outputBuffer);
+            }
+        } finally {
+            _outputBuffer.compact();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return _open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (_open) {
+            _open = false;
+            try {
+                while (_encoder.encode(EMPTY_BUFFER, _outputBuffer, true) == Base64Result.OVERFLOW) {
+                    writeOutputBuffer();
+                }
+                writeOutputBuffer();
+            } finally {
+                _channel.close();
+            }
+        }
+    }
+
+}
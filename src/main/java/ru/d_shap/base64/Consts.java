@@ -151,6 +151,15 @@ final class Consts {
         }
     }
 
+    static final int[] TO_BASE64_CHARACTER_PAIR;
+
+    static {
+        TO_BASE64_CHARACTER_PAIR = new int[4096];
+        for (int i = 0; i < TO_BASE64_CHARACTER_PAIR.length; i++) {
+            TO_BASE64_CHARACTER_PAIR[i] = TO_BASE64[(i & 0xFC0) >> 6] << 8 | TO_BASE64[i & 0x3F];
+        }
+    }
+
     static final int[] FROM_BASE64;
 
     static {
@@ -305,6 +314,58 @@ final class Consts {
         }
     }
 
+    static final int[] FROM_BASE64_GROUP_1;
+
+    static {
+        FROM_BASE64_GROUP_1 = new int[256];
+        for (int i = 0; i < FROM_BASE64_GROUP_1.length; i++) {
+            if (i >= FROM_BASE64.length || FROM_BASE64[i] == -1) {
+                FROM_BASE64_GROUP_1[i] = -1;
+            } else {
+                FROM_BASE64_GROUP_1[i] = FROM_BASE64[i] << 18;
+            }
+        }
+    }
+
+    static final int[] FROM_BASE64_GROUP_2;
+
+    static {
+        FROM_BASE64_GROUP_2 = new int[256];
+        for (int i = 0; i < FROM_BASE64_GROUP_2.length; i++) {
+            if (i >= FROM_BASE64.length || FROM_BASE64[i] == -1) {
+                FROM_BASE64_GROUP_2[i] = -1;
+            } else {
+                FROM_BASE64_GROUP_2[i] = FROM_BASE64[i] << 12;
+            }
+        }
+    }
+
+    static final int[] FROM_BASE64_GROUP_3;
+
+    static {
+        FROM_BASE64_GROUP_3 = new int[256];
+        for (int i = 0; i < FROM_BASE64_GROUP_3.length; i++) {
+            if (i >= FROM_BASE64.length || FROM_BASE64[i] == -1) {
+                FROM_BASE64_GROUP_3[i] = -1;
+            } else {
+                FROM_BASE64_GROUP_3[i] = FROM_BASE64[i] << 6;
+            }
+        }
+    }
+
+    static final int[] FROM_BASE64_GROUP_4;
+
+    static {
+        FROM_BASE64_GROUP_4 = new int[256];
+        for (int i = 0; i < FROM_BASE64_GROUP_4.length; i++) {
+            if (i >= FROM_BASE64.length || FROM_BASE64[i] == -1) {
+                FROM_BASE64_GROUP_4[i] = -1;
+            } else {
+                FROM_BASE64_GROUP_4[i] = FROM_BASE64[i];
+            }
+        }
+    }
+
     static final int PAD = '=';
 
     private Consts() {
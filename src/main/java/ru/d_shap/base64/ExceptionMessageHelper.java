@@ -50,10 +50,78 @@ final class ExceptionMessageHelper {
         return "Wrong base64 string length (" + length + ")";
     }
 
+    static String createWrongBase64ArrayIndexMessage(final int index) {
+        return "Wrong base64 array index (" + index + ")";
+    }
+
+    static String createWrongBase64ArrayLengthMessage(final int length) {
+        return "Wrong base64 array length (" + length + ")";
+    }
+
+    static String createWrongBase64ArrayLengthMessage(final int actual, final int expected) {
+        return "Wrong base64 array length (" + actual + "), expected length is (" + expected + ")";
+    }
+
+    static String createWrongByteBufferLengthMessage(final int actual, final int expected) {
+        return "Wrong byte buffer length (" + actual + "), expected length is (" + expected + ")";
+    }
+
+    static String createWrongBase64BufferLengthMessage(final int length) {
+        return "Wrong base64 buffer length (" + length + ")";
+    }
+
+    static String createWrongBase64BufferLengthMessage(final int actual, final int expected) {
+        return "Wrong base64 buffer length (" + actual + "), expected length is (" + expected + ")";
+    }
+
+    static String createWrongBytesLengthMessage(final long length) {
+        return "Wrong bytes length (" + length + ")";
+    }
+
+    static String createWrongBase64LengthMessage(final long length) {
+        return "Wrong base64 length (" + length + ")";
+    }
+
+    static String createTooLargeBase64LengthMessage(final long length) {
+        return "Too large base64 length (" + length + ")";
+    }
+
+    static String createWrongLineLengthMessage(final int length) {
+        return "Wrong line length (" + length + ")";
+    }
+
+    static String createWrongLineSeparatorLengthMessage(final int length) {
+        return "Wrong line separator length (" + length + ")";
+    }
+
     static String createWrongBase64StringCharacterMessage(final int character) {
         return "Wrong character obtained ('" + (char) character + "', " + character + ")";
     }
 
+    static String createWrongBufferSizeMessage(final int size) {
+        return "Wrong buffer size (" + size + ")";
+    }
+
+    static String createWrongThresholdMessage(final int threshold) {
+        return "Wrong threshold (" + threshold + ")";
+    }
+
+    static String createWrongWindowSizeMessage(final int size) {
+        return "Wrong window size (" + size + ")";
+    }
+
+    static String createWrongBase64FileLengthMessage(final long length) {
+        return "Wrong base64 file length (" + length + ")";
+    }
+
+    static String createSameSourceAndTargetFileMessage() {
+        return "Source file and target file are the same file";
+    }
+
+    static String createInputAfterEndMessage() {
+        return "Input obtained after the end of input";
+    }
+
     static String createEndOfStreamMessage() {
         return "Unexpected end of stream";
     }
@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Helper class to process eight base64 characters packed in one long value at once.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SwarHelper {
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    private static final long LOWER_CASE_BITS = 0x2020202020202020L;
+
+    private static final long SLASH_BITS = 0x0404040404040404L;
+
+    private SwarHelper() {
+        super();
+    }
+
+    static long getBlock(final byte[] base64, final int base64Index) {
+        return (long) (base64[base64Index] & 0xFF) << 56 | (long) (base64[base64Index + 1] & 0xFF) << 48 | (long) (base64[base64Index + 2] & 0xFF) << 40 | (long) (base64[base64Index + 3] & 0xFF) << 32 | (long) (base64[base64Index + 4] & 0xFF) << 24 | (base64[base64Index + 5] & 0xFF) << 16 | (base64[base64Index + 6] & 0xFF) << 8 | base64[base64Index + 7] & 0xFF;
+    }
+
+    static long getBlock(final String base64, final int base64Index) {
+        int character1 = base64.charAt(base64Index);
+        int character2 = base64.charAt(base64Index + 1);
+        int character3 = base64.charAt(base64Index + 2);
+        int character4 = base64.charAt(base64Index + 3);
+        int character5 = base64.charAt(base64Index + 4);
+        int character6 = base64.charAt(base64Index + 5);
+        int character7 = base64.charAt(base64Index + 6);
+        int character8 = base64.charAt(base64Index + 7);
+        if ((character1 | character2 | character3 | character4 | character5 | character6 | character7 | character8) >= 0x80) {
+            return HIGH_BITS;
+        }
+        return (long) character1 << 56 | (long) character2 << 48 | (long) character3 << 40 | (long) character4 << 32 | (long) character5 << 24 | character6 << 16 | character7 << 8 | character8;
+    }
+
+    static boolean isBase64Block(final long block) {
+        if ((block & HIGH_BITS) != 0) {
+            return false;
+        }
+        long letterMask = getRangeMask(block | LOWER_CASE_BITS | HIGH_BITS, 'a', 'z');
+        long digitMask = getRangeMask(block | HIGH_BITS, '0', '9');
+        long signMask = getRangeMask(block & ~SLASH_BITS | HIGH_BITS, '+', '+');
+        return (letterMask | digitMask | signMask) == HIGH_BITS;
+    }
+
+    private static long getRangeMask(final long value, final int lowerBound, final int upperBound) {
+        return (value - LOW_BITS * lowerBound) & ~(value - LOW_BITS * (upperBound + 1)) & HIGH_BITS;
+    }
+
+}
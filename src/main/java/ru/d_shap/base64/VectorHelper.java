@@ -0,0 +1,42 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Helper class to convert the base64 groups with the vector instructions.
+ * This version does not support the vector instructions, the Java 21 version is provided by the multi-release JAR.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class VectorHelper {
+
+    private VectorHelper() {
+        super();
+    }
+
+    static int convertGroupsToBase64(final byte[] bytes, final int bytesOffset, final int groupsCount, final byte[] base64, final int base64Offset) {
+        return 0;
+    }
+
+    static int convertGroupsToBytes(final byte[] base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset) {
+        return 0;
+    }
+
+}
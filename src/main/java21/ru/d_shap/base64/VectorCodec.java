@@ -0,0 +1,141 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector implementation of the base64 groups conversions.
+ * The class is loaded only if the jdk.incubator.vector module is available.
+ * The decoded vector is longer than the decoded bytes, so it is stored only after the next vector is decoded
+ * and the last decoded vector is stored with the mask. No bytes are written after the decoded groups.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class VectorCodec {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private static final int GROUPS_PER_VECTOR = SPECIES.length() / 4;
+
+    private static final VectorShuffle<Byte> EXPAND_SHUFFLE;
+
+    static {
+        int[] indices = new int[SPECIES.length()];
+        for (int i = 0; i < GROUPS_PER_VECTOR; i++) {
+            indices[i * 4] = i * 3 + 1;
+            indices[i * 4 + 1] = i * 3;
+            indices[i * 4 + 2] = i * 3 + 2;
+            indices[i * 4 + 3] = i * 3 + 1;
+        }
+        EXPAND_SHUFFLE = VectorShuffle.fromArray(SPECIES, indices, 0);
+    }
+
+    private static final VectorShuffle<Byte> COMPACT_SHUFFLE;
+
+    static {
+        int[] indices = new int[SPECIES.length()];
+        for (int i = 0; i < GROUPS_PER_VECTOR; i++) {
+            indices[i * 3] = i * 4 + 2;
+            indices[i * 3 + 1] = i * 4 + 1;
+            indices[i * 3 + 2] = i * 4;
+        }
+        COMPACT_SHUFFLE = VectorShuffle.fromArray(SPECIES, indices, 0);
+    }
+
+    private static final VectorMask<Byte> COMPACT_MASK = SPECIES.indexInRange(0, GROUPS_PER_VECTOR * 3);
+
+    private VectorCodec() {
+        super();
+    }
+
+    static int convertGroupsToBase64(final byte[] bytes, final int bytesOffset, final int groupsCount, final byte[] base64, final int base64Offset) {
+        int groupsIndex = 0;
+        int bytesIndex = bytesOffset;
+        int base64Index = base64Offset;
+        while (groupsIndex + GROUPS_PER_VECTOR * 2 <= groupsCount) {
+            IntVector groups = ByteVector.fromArray(SPECIES, bytes, bytesIndex).rearrange(EXPAND_SHUFFLE).reinterpretAsInts();
+            IntVector sextets1 = groups.lanewise(VectorOperators.LSHR, 10).and(0x3F).or(groups.lanewise(VectorOperators.LSHL, 4).and(0x3F00));
+            IntVector sextets2 = groups.lanewise(VectorOperators.LSHR, 6).and(0x3F0000).or(groups.lanewise(VectorOperators.LSHL, 8).and(0x3F000000));
+            ByteVector sextets = sextets1.or(sextets2).reinterpretAsBytes();
+
+            ByteVector shift = ByteVector.broadcast(SPECIES, (byte) 'A');
+            shift = shift.blend((byte) ('a' - 26), sextets.compare(VectorOperators.GE, 26));
+            shift = shift.blend((byte) ('0' - 52), sextets.compare(VectorOperators.GE, 52));
+            shift = shift.blend((byte) ('+' - 62), sextets.compare(VectorOperators.EQ, 62));
+            shift = shift.blend((byte) ('/' - 63), sextets.compare(VectorOperators.EQ, 63));
+            sextets.add(shift).intoArray(base64, base64Index);
+
+            groupsIndex += GROUPS_PER_VECTOR;
+            bytesIndex += GROUPS_PER_VECTOR * 3;
+            base64Index += GROUPS_PER_VECTOR * 4;
+        }
+        return groupsIndex;
+    }
+
+    static int convertGroupsToBytes(final byte[] base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset) {
+        int groupsIndex = 0;
+        int base64Index = base64Offset;
+        int bytesIndex = bytesOffset;
+        ByteVector previousBytes = null;
+        int previousBytesIndex = bytesOffset;
+        while (groupsIndex + GROUPS_PER_VECTOR * 2 <= groupsCount) {
+            ByteVector characters = ByteVector.fromArray(SPECIES, base64, base64Index);
+            VectorMask<Byte> upperCaseMask = characters.compare(VectorOperators.GE, 'A').and(characters.compare(VectorOperators.LE, 'Z'));
+            VectorMask<Byte> lowerCaseMask = characters.compare(VectorOperators.GE, 'a').and(characters.compare(VectorOperators.LE, 'z'));
+            VectorMask<Byte> digitMask = characters.compare(VectorOperators.GE, '0').and(characters.compare(VectorOperators.LE, '9'));
+            VectorMask<Byte> plusMask = characters.compare(VectorOperators.EQ, '+');
+            VectorMask<Byte> slashMask = characters.compare(VectorOperators.EQ, '/');
+            if (!upperCaseMask.or(lowerCaseMask).or(digitMask).or(plusMask).or(slashMask).allTrue()) {
+                break;
+            }
+
+            ByteVector shift = ByteVector.broadcast(SPECIES, (byte) -'A');
+            shift = shift.blend((byte) (26 - 'a'), lowerCaseMask);
+            shift = shift.blend((byte) (52 - '0'), digitMask);
+            shift = shift.blend((byte) (62 - '+'), plusMask);
+            shift = shift.blend((byte) (63 - '/'), slashMask);
+            IntVector sextets = characters.add(shift).reinterpretAsInts();
+            IntVector groups1 = sextets.and(0x3F).lanewise(VectorOperators.LSHL, 18).or(sextets.and(0x3F00).lanewise(VectorOperators.LSHL, 4));
+            IntVector groups2 = sextets.and(0x3F0000).lanewise(VectorOperators.LSHR, 10).or(sextets.lanewise(VectorOperators.LSHR, 24));
+            ByteVector currentBytes = groups1.or(groups2).reinterpretAsBytes().rearrange(COMPACT_SHUFFLE);
+
+            if (previousBytes != null) {
+                previousBytes.intoArray(bytes, previousBytesIndex);
+            }
+            previousBytes = currentBytes;
+            previousBytesIndex = bytesIndex;
+
+            groupsIndex += GROUPS_PER_VECTOR;
+            base64Index += GROUPS_PER_VECTOR * 4;
+            bytesIndex += GROUPS_PER_VECTOR * 3;
+        }
+        if (previousBytes != null) {
+            previousBytes.intoArray(bytes, previousBytesIndex, COMPACT_MASK);
+        }
+        return groupsIndex;
+    }
+
+}
@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+/**
+ * Helper class to convert the base64 groups with the vector instructions.
+ * The vector instructions are used only if the jdk.incubator.vector module is available and the data is large enough.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class VectorHelper {
+
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    private static final boolean VECTOR_MODULE_AVAILABLE = ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isPresent();
+
+    private static final int MINIMUM_GROUPS_COUNT = 64;
+
+    private VectorHelper() {
+        super();
+    }
+
+    static int convertGroupsToBase64(final byte[] bytes, final int bytesOffset, final int groupsCount, final byte[] base64, final int base64Offset) {
+        if (VECTOR_MODULE_AVAILABLE && groupsCount >= MINIMUM_GROUPS_COUNT) {
+            return VectorCodec.convertGroupsToBase64(bytes, bytesOffset, groupsCount, base64, base64Offset);
+        } else {
+            return 0;
+        }
+    }
+
+    static int convertGroupsToBytes(final byte[] base64, final int base64Offset, final int groupsCount, final byte[] bytes, final int bytesOffset) {
+        if (VECTOR_MODULE_AVAILABLE && groupsCount >= MINIMUM_GROUPS_COUNT) {
+            return VectorCodec.convertGroupsToBytes(base64, base64Offset, groupsCount, bytes, bytesOffset);
+        } else {
+            return 0;
+        }
+    }
+
+}
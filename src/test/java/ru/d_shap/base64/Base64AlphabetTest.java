@@ -0,0 +1,153 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64Alphabet}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64AlphabetTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64AlphabetTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64Alphabet} class test.
+     */
+    @Test
+    public void getCharacterPairTest() {
+        Assertions.assertThat(Base64Alphabet.STANDARD.getCharacterPair(0)).isEqualTo('A' << 8 | 'A');
+        Assertions.assertThat(Base64Alphabet.STANDARD.getCharacterPair(62 << 6 | 63)).isEqualTo('+' << 8 | '/');
+        Assertions.assertThat(Base64Alphabet.STANDARD.getCharacterPair(63 << 6 | 62)).isEqualTo('/' << 8 | '+');
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getCharacterPair(0)).isEqualTo('A' << 8 | 'A');
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getCharacterPair(62 << 6 | 63)).isEqualTo('-' << 8 | '_');
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getCharacterPair(63 << 6 | 62)).isEqualTo('_' << 8 | '-');
+
+        for (int i = 0; i < 4096; i++) {
+            Assertions.assertThat(Base64Alphabet.STANDARD.getCharacterPair(i)).isEqualTo(Base64Helper.getBase64CharacterPair(i));
+        }
+    }
+
+    /**
+     * {@link Base64Alphabet} class test.
+     */
+    @Test
+    public void isCharacterValidTest() {
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid(-1)).isFalse();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid('+')).isTrue();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid('/')).isTrue();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid('-')).isFalse();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid('_')).isFalse();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid('=')).isFalse();
+        Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid(256)).isFalse();
+
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid(-1)).isFalse();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid('+')).isFalse();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid('/')).isFalse();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid('-')).isTrue();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid('_')).isTrue();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid('=')).isFalse();
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.isCharacterValid(256)).isFalse();
+
+        for (int i = 0; i < 256; i++) {
+            Assertions.assertThat(Base64Alphabet.STANDARD.isCharacterValid(i) == Base64Helper.isBase64CharacterValid(i)).isTrue();
+        }
+    }
+
+    /**
+     * {@link Base64Alphabet} class test.
+     */
+    @Test
+    public void getValueTest() {
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('A')).isEqualTo(0);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('a')).isEqualTo(26);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('0')).isEqualTo(52);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('+')).isEqualTo(62);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('/')).isEqualTo(63);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('-')).isEqualTo(-1);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getValue('=')).isEqualTo(-1);
+
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('A')).isEqualTo(0);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('a')).isEqualTo(26);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('0')).isEqualTo(52);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('-')).isEqualTo(62);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('_')).isEqualTo(63);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('+')).isEqualTo(-1);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getValue('=')).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64Alphabet} class test.
+     */
+    @Test
+    public void mixedAlphabetTest() {
+        for (int i = 0; i < 4096; i++) {
+            Assertions.assertThat(Base64Alphabet.MIXED.getCharacterPair(i)).isEqualTo(Base64Alphabet.STANDARD.getCharacterPair(i));
+        }
+        for (int i = 0; i < 256; i++) {
+            if (i == '-') {
+                Assertions.assertThat(Base64Alphabet.MIXED.getValue(i)).isEqualTo(62);
+            } else if (i == '_') {
+                Assertions.assertThat(Base64Alphabet.MIXED.getValue(i)).isEqualTo(63);
+            } else {
+                Assertions.assertThat(Base64Alphabet.MIXED.getValue(i)).isEqualTo(Base64Alphabet.STANDARD.getValue(i));
+            }
+        }
+        Assertions.assertThat(Base64Alphabet.MIXED.isCharacterValid('+')).isTrue();
+        Assertions.assertThat(Base64Alphabet.MIXED.isCharacterValid('/')).isTrue();
+        Assertions.assertThat(Base64Alphabet.MIXED.isCharacterValid('-')).isTrue();
+        Assertions.assertThat(Base64Alphabet.MIXED.isCharacterValid('_')).isTrue();
+        Assertions.assertThat(Base64Alphabet.MIXED.isCharacterValid('=')).isFalse();
+        Assertions.assertThat(Base64Alphabet.MIXED.getGroup('+', '/', '-', '_')).isEqualTo(0xFBFFBF);
+        Assertions.assertThat(Base64Alphabet.MIXED.getGroup('-', '_', '+', '/')).isEqualTo(0xFBFFBF);
+        Assertions.assertThat(Base64Alphabet.MIXED.getGroup('-', '_', '+', '=')).isLessThan(0);
+    }
+
+    /**
+     * {@link Base64Alphabet} class test.
+     */
+    @Test
+    public void getGroupTest() {
+        Assertions.assertThat(Base64Alphabet.STANDARD.getGroup('A', 'A', 'A', 'A')).isEqualTo(0);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getGroup('+', '/', '+', '/')).isEqualTo(0xFBFFBF);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getGroup('-', '_', '-', '_')).isLessThan(0);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getGroup('A', 'A', 'A', '=')).isLessThan(0);
+        Assertions.assertThat(Base64Alphabet.STANDARD.getGroup('S', '8', 'R', 'B')).isEqualTo(Base64Helper.getBase64Group('S', '8', 'R', 'B'));
+        for (int i = 0; i < 256; i++) {
+            Assertions.assertThat(Base64Alphabet.STANDARD.getGroup(i, i, i, i)).isEqualTo(Base64Helper.getBase64Group(i, i, i, i));
+        }
+
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getGroup('A', 'A', 'A', 'A')).isEqualTo(0);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getGroup('-', '_', '-', '_')).isEqualTo(0xFBFFBF);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getGroup('+', '/', '+', '/')).isLessThan(0);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getGroup('A', 'A', 'A', '=')).isLessThan(0);
+        Assertions.assertThat(Base64Alphabet.URL_SAFE.getGroup('S', '8', 'R', 'B')).isEqualTo(Base64Helper.getBase64Group('S', '8', 'R', 'B'));
+    }
+
+}
@@ -0,0 +1,92 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64DecodeResult}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecodeResultTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64DecodeResultTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64DecodeResult} class test.
+     */
+    @Test
+    public void newObjectTest() {
+        Base64DecodeResult result = new Base64DecodeResult();
+        Assertions.assertThat(result.isSuccess()).isTrue();
+        Assertions.assertThat(result.getBytes()).isNull();
+        Assertions.assertThat(result.getStatus()).isEqualTo(0L);
+        Assertions.assertThat(result.getError()).isNull();
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64DecodeResult} class test.
+     */
+    @Test
+    public void setBytesTest() {
+        Base64DecodeResult result = new Base64DecodeResult();
+        result.setBytes(new byte[]{1, 2, 3});
+        Assertions.assertThat(result.isSuccess()).isTrue();
+        Assertions.assertThat(result.getBytes()).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(result.getStatus()).isEqualTo(3L);
+        Assertions.assertThat(result.getError()).isNull();
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64DecodeResult} class test.
+     */
+    @Test
+    public void setStatusTest() {
+        Base64DecodeResult result = new Base64DecodeResult();
+        result.setBytes(new byte[]{1, 2, 3});
+        result.setStatus(Base64Helper.createDecodeErrorStatus(Base64DecodeError.WRONG_CHARACTER, 5));
+        Assertions.assertThat(result.isSuccess()).isFalse();
+        Assertions.assertThat(result.getBytes()).isNull();
+        Assertions.assertThat(result.getStatus()).isLessThan(0L);
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(5);
+
+        result.setStatus(Base64Helper.createDecodeErrorStatus(Base64DecodeError.WRONG_LENGTH, 0));
+        Assertions.assertThat(result.isSuccess()).isFalse();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_LENGTH);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(0);
+
+        result.setBytes(new byte[0]);
+        Assertions.assertThat(result.isSuccess()).isTrue();
+        Assertions.assertThat(result.getBytes()).isEmpty();
+        Assertions.assertThat(result.getError()).isNull();
+    }
+
+}
@@ -0,0 +1,347 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link Base64DecoderOutputStream}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecoderOutputStreamTest {
+
+    private static final String ENCODING = "US-ASCII";
+
+    /**
+     * Test class constructor.
+     */
+    public Base64DecoderOutputStreamTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeZeroByteEndingTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        base64DecoderOutputStream.write(toBytes("8HgPHsHJ"));
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63, -55);
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63, -55);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeOneByteEndingTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        base64DecoderOutputStream.write(toBytes("8HgPHg=="));
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30);
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeTwoByteEndingTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        base64DecoderOutputStream.write(toBytes("8HgPHsE="));
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63);
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void emptyStreamTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        base64DecoderOutputStream.write(new byte[0]);
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder();
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeByteTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        base64DecoderOutputStream.write('8');
+        base64DecoderOutputStream.write('H');
+        base64DecoderOutputStream.write('g');
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder();
+        base64DecoderOutputStream.write('P');
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15);
+        base64DecoderOutputStream.write('H');
+        base64DecoderOutputStream.write('g');
+        base64DecoderOutputStream.write('=');
+        base64DecoderOutputStream.write('=');
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithBoundsTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+        byte[] base64 = toBytes("..8HgPHsHJESCw..");
+        base64DecoderOutputStream.write(base64, 2, 0);
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder();
+        base64DecoderOutputStream.write(base64, 2, 3);
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder();
+        base64DecoderOutputStream.write(base64, 5, 6);
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63, -55);
+        base64DecoderOutputStream.write(base64, 11, 3);
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63, -55, 17, 32, -80);
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(baos.toByteArray()).containsExactlyInOrder(-16, 120, 15, 30, -63, -55, 17, 32, -80);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeLargeArrayTest() throws Exception {
+        byte[] bytes = new byte[100000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        byte[] base64 = Base64Helper.toBase64Bytes(bytes);
+        int[] chunkSizes = new int[]{1, 2, 3, 4, 5, 7, 8192, 8193, 200000};
+        for (int chunkSize : chunkSizes) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(baos);
+            for (int i = 0; i < base64.length; i += chunkSize) {
+                base64DecoderOutputStream.write(base64, i, Math.min(chunkSize, base64.length - i));
+            }
+            base64DecoderOutputStream.close();
+            Assertions.assertThat(Base64Helper.toBase64(baos.toByteArray())).isEqualTo(new String(base64, ENCODING));
+        }
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWrongCharacterTest() throws Exception {
+        checkWrongCharacter("8HgPH.HJ", "Wrong character obtained ('.', 46)", 3);
+        checkWrongCharacter("8HgP.sHJ", "Wrong character obtained ('.', 46)", 3);
+        checkWrongCharacter("8HgPHsH.ESCw", "Wrong character obtained ('.', 46)", 3);
+        checkWrongCharacter("8HgPHs.JESCw", "Wrong character obtained ('.', 46)", 3);
+        checkWrongCharacter("8HgP=sHJ", "Wrong character obtained ('=', 61)", 3);
+        checkWrongCharacter("8HgPH=HJ", "Wrong character obtained ('=', 61)", 3);
+        checkWrongCharacter("8HgPHs=J", "Wrong character obtained ('J', 74)", 3);
+        checkWrongCharacter("8HgPHsF=", "Wrong character obtained ('F', 70)", 3);
+        checkWrongCharacter("8HgPHh==", "Wrong character obtained ('h', 104)", 3);
+        checkWrongCharacter("8HgPHg==8HgP", "Wrong character obtained ('8', 56)", 4);
+        checkWrongCharacter("8HgPHsE=8HgP", "Wrong character obtained ('8', 56)", 5);
+        checkWrongCharacter("8HgPHsE==", "Wrong character obtained ('=', 61)", 5);
+        checkWrongCharacter("8HgP\u0080sHJ", "Wrong character obtained ('\u0080', 128)", 3);
+    }
+
+    private void checkWrongCharacter(final String base64, final String message, final int bytesCount) throws IOException {
+        byte[] bytes = base64.getBytes("ISO-8859-1");
+        ByteArrayOutputStream baos1 = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream1 = new Base64DecoderOutputStream(baos1);
+        try {
+            base64DecoderOutputStream1.write(bytes);
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage(message);
+        }
+        Assertions.assertThat(baos1.toByteArray()).hasLength(bytesCount);
+
+        ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream2 = new Base64DecoderOutputStream(baos2);
+        try {
+            for (byte value : bytes) {
+                base64DecoderOutputStream2.write(value);
+            }
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage(message);
+        }
+        Assertions.assertThat(baos2.toByteArray()).hasLength(bytesCount);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void writeWithBoundsNullByteArrayTest() throws Exception {
+        new Base64DecoderOutputStream(new ByteArrayOutputStream()).write(null, 0, 1);
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithWrongBoundsTest() throws Exception {
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(new ByteArrayOutputStream());
+        try {
+            base64DecoderOutputStream.write(new byte[4], -1, 2);
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            base64DecoderOutputStream.write(new byte[4], 0, -1);
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            base64DecoderOutputStream.write(new byte[4], 2, 3);
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void flushTest() throws Exception {
+        FlushStream flushStream = new FlushStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(flushStream);
+        base64DecoderOutputStream.write('8');
+
+        Assertions.assertThat(flushStream.isFlushed()).isFalse();
+        base64DecoderOutputStream.flush();
+        Assertions.assertThat(flushStream.isFlushed()).isTrue();
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closeTest() throws Exception {
+        OutputStream outputStream = DataHelper.createOutputStreamBuilder().buildOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(outputStream);
+        base64DecoderOutputStream.write(toBytes("8HgP"));
+
+        Assertions.assertThat(((IsCloseable) outputStream).isClosed()).isFalse();
+        base64DecoderOutputStream.close();
+        Assertions.assertThat(((IsCloseable) outputStream).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link Base64DecoderOutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closePartialGroupTest() throws Exception {
+        OutputStream outputStream = DataHelper.createOutputStreamBuilder().buildOutputStream();
+        Base64DecoderOutputStream base64DecoderOutputStream = new Base64DecoderOutputStream(outputStream);
+        base64DecoderOutputStream.write(toBytes("8HgPHs"));
+        try {
+            base64DecoderOutputStream.close();
+            Assertions.fail("Base64DecoderOutputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+        Assertions.assertThat(((IsCloseable) outputStream).isClosed()).isTrue();
+        base64DecoderOutputStream.close();
+    }
+
+    private static byte[] toBytes(final String base64) throws IOException {
+        return base64.getBytes(ENCODING);
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FlushStream extends OutputStream {
+
+        private boolean _flushed;
+
+        FlushStream() {
+            super();
+            _flushed = false;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            // Ignore
+        }
+
+        boolean isFlushed() {
+            return _flushed;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            super.flush();
+            _flushed = true;
+        }
+
+    }
+
+}
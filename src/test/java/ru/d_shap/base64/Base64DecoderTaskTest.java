@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64DecoderTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecoderTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64DecoderTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64DecoderTask} class test.
+     */
+    @Test
+    public void computeTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            byte[] bytes = new byte[14];
+            Base64DecoderTask task = new Base64DecoderTask(".qszh6BMNMx0phUUD.", 1, 16, bytes, 1, true, 16);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes).containsExactlyInOrder(0, -86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, 0);
+
+            bytes = new byte[14];
+            task = new Base64DecoderTask(".qszh6BMNMx0phUUD.", 1, 16, bytes, 1, true, 1);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes).containsExactlyInOrder(0, -86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, 0);
+
+            bytes = new byte[12];
+            task = new Base64DecoderTask(".qszh6BMNMx0phQ==.", 1, 16, bytes, 1, true, 4);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes).containsExactlyInOrder(0, -86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 0);
+
+            bytes = new byte[14];
+            task = new Base64DecoderTask(".qszh6BMNMx0phUUD.", 1, 16, bytes, 1, false, 4);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes).containsExactlyInOrder(0, -86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64DecoderTask} class test.
+     */
+    @Test
+    public void computeWithWrongCharacterTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Base64DecoderTask task = new Base64DecoderTask("qs.h6BMNMx0p,UUD", 0, 16, new byte[12], 0, true, 4);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('.', 46)");
+
+            task = new Base64DecoderTask("qszh6BMNMx0p,UUD", 0, 16, new byte[12], 0, true, 4);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained (',', 44)");
+
+            task = new Base64DecoderTask("qszh6BMNMx0phU=D", 0, 16, new byte[12], 0, true, 4);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('D', 68)");
+
+            task = new Base64DecoderTask("qszh6BMNMx0phU=D", 0, 16, new byte[12], 0, false, 16);
+            pool.invoke(task);
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('=', 61)");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
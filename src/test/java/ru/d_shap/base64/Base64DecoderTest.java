@@ -0,0 +1,272 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64Decoder}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64DecoderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64DecoderTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeTest() {
+        Assertions.assertThat(decode("", 1, 3, false)).containsExactlyInOrder();
+        Assertions.assertThat(decode("qszh6BMN", 8, 6, false)).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+        Assertions.assertThat(decode("qszh6BM=", 8, 6, false)).containsExactlyInOrder(-86, -52, -31, -24, 19);
+        Assertions.assertThat(decode("qszh6A==", 8, 6, false)).containsExactlyInOrder(-86, -52, -31, -24);
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeFragmentsTest() {
+        for (int length = 0; length < 40; length++) {
+            byte[] bytes = createBytes(length);
+            String base64 = Base64Helper.toBase64(bytes);
+            for (int fragmentSize = 1; fragmentSize < 10; fragmentSize++) {
+                for (int outputBufferSize = 1; outputBufferSize < 8; outputBufferSize++) {
+                    Assertions.assertThat(Base64Helper.toBase64(decode(base64, fragmentSize, outputBufferSize, false))).isEqualTo(base64);
+                    Assertions.assertThat(Base64Helper.toBase64(decode(base64, fragmentSize, outputBufferSize, true))).isEqualTo(base64);
+                }
+            }
+        }
+        String base64 = Base64Helper.toBase64(createBytes(10000));
+        Assertions.assertThat(Base64Helper.toBase64(decode(base64, 1000, 999, false))).isEqualTo(base64);
+        Assertions.assertThat(Base64Helper.toBase64(decode(base64, 1000, 999, true))).isEqualTo(base64);
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeMixedBuffersTest() {
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer bytes = ByteBuffer.allocateDirect(16);
+        Assertions.assertThat(decoder.decode(toBuffer("qszh6BMN"), bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+
+        decoder.reset();
+        ByteBuffer base64 = ByteBuffer.allocateDirect(8);
+        base64.put(toBuffer("qszh6BMN"));
+        base64.flip();
+        bytes = ByteBuffer.allocate(16);
+        Assertions.assertThat(decoder.decode(base64, bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeOverflowTest() {
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer base64 = toBuffer("qszh6BM=");
+        ByteBuffer bytes = ByteBuffer.allocate(2);
+
+        Assertions.assertThat(decoder.decode(base64, bytes, true)).isSameAs(Base64Result.OVERFLOW);
+        Assertions.assertThat(base64.position()).isEqualTo(4);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-86, -52);
+
+        Assertions.assertThat(decoder.decode(base64, bytes, true)).isSameAs(Base64Result.OVERFLOW);
+        Assertions.assertThat(base64.position()).isEqualTo(8);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-31, -24);
+
+        Assertions.assertThat(decoder.decode(base64, bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(19);
+
+        Assertions.assertThat(decoder.decode(base64, bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder();
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeUnderflowTest() {
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+
+        Assertions.assertThat(decoder.decode(toBuffer("qsz"), bytes, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder();
+        Assertions.assertThat(decoder.decode(toBuffer("h6B"), bytes, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-86, -52, -31);
+        Assertions.assertThat(decoder.decode(toBuffer(""), bytes, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(decoder.decode(toBuffer("MN"), bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-24, 19, 13);
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeWrongCharacterTest() {
+        checkWrongCharacter("qs.h6BMN", "Wrong character obtained ('.', 46)");
+        checkWrongCharacter("qszh6B.N", "Wrong character obtained ('.', 46)");
+        checkWrongCharacter("qszh=BMN", "Wrong character obtained ('=', 61)");
+        checkWrongCharacter("qszh6=MN", "Wrong character obtained ('=', 61)");
+        checkWrongCharacter("qszh6B=N", "Wrong character obtained ('N', 78)");
+        checkWrongCharacter("qszh6BN=", "Wrong character obtained ('N', 78)");
+        checkWrongCharacter("qszh6B==", "Wrong character obtained ('B', 66)");
+        checkWrongCharacter("qszh6A==qszh", "Wrong character obtained ('q', 113)");
+        checkWrongCharacter("qszh6BM==", "Wrong character obtained ('=', 61)");
+        checkWrongCharacter("qszh6BM\u0080", "Wrong character obtained ('\u0080', 128)");
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void decodeIncompleteGroupTest() {
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        Assertions.assertThat(decoder.decode(toBuffer("qszh6B"), bytes, false)).isSameAs(Base64Result.UNDERFLOW);
+        try {
+            decoder.decode(toBuffer(""), bytes, true);
+            Assertions.fail("Base64Decoder test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test
+    public void resetTest() {
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        Assertions.assertThat(decoder.decode(toBuffer("qg=="), bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(-86);
+        decoder.reset();
+        Assertions.assertThat(decoder.decode(toBuffer("qsz"), bytes, false)).isSameAs(Base64Result.UNDERFLOW);
+        decoder.reset();
+        Assertions.assertThat(decoder.decode(toBuffer("Mx0p"), bytes, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(51, 29, 41);
+
+        bytes = ByteBuffer.allocate(2);
+        Assertions.assertThat(decoder.decode(toBuffer("Mx0p"), bytes, true)).isSameAs(Base64Result.OVERFLOW);
+        decoder.reset();
+        Assertions.assertThat(decoder.decode(toBuffer("Mx0p"), bytes, true)).isSameAs(Base64Result.OVERFLOW);
+        Assertions.assertThat(getContent(bytes)).containsExactlyInOrder(51, 29);
+    }
+
+    /**
+     * {@link Base64Decoder} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void decodeNullBufferTest() {
+        new Base64Decoder().decode(null, ByteBuffer.allocate(3), true);
+    }
+
+    private static void checkWrongCharacter(final String base64, final String message) {
+        for (int fragmentSize = 1; fragmentSize < 10; fragmentSize++) {
+            try {
+                decode(base64, fragmentSize, 16, false);
+                Assertions.fail("Base64Decoder test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage(message);
+            }
+            try {
+                decode(base64, fragmentSize, 16, true);
+                Assertions.fail("Base64Decoder test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage(message);
+            }
+        }
+    }
+
+    private static byte[] decode(final String base64, final int fragmentSize, final int outputBufferSize, final boolean direct) {
+        byte[] base64Bytes = base64.getBytes(StandardCharsets.ISO_8859_1);
+        Base64Decoder decoder = new Base64Decoder();
+        ByteBuffer bytes = createBuffer(outputBufferSize, direct);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int index = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            int length = Math.min(fragmentSize, base64Bytes.length - index);
+            ByteBuffer fragment = createBuffer(length, direct);
+            fragment.put(base64Bytes, index, length);
+            fragment.flip();
+            index += length;
+            endOfInput = index == base64Bytes.length;
+            while (decoder.decode(fragment, bytes, endOfInput) == Base64Result.OVERFLOW) {
+                writeContent(bytes, result);
+            }
+            writeContent(bytes, result);
+            Assertions.assertThat(fragment.hasRemaining()).isFalse();
+        }
+        return result.toByteArray();
+    }
+
+    private static ByteBuffer createBuffer(final int size, final boolean direct) {
+        if (direct) {
+            return ByteBuffer.allocateDirect(size);
+        } else {
+            return ByteBuffer.allocate(size);
+        }
+    }
+
+    private static ByteBuffer toBuffer(final String base64) {
+        return ByteBuffer.wrap(base64.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static byte[] getContent(final ByteBuffer buffer) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeContent(buffer, baos);
+        return baos.toByteArray();
+    }
+
+    private static void writeContent(final ByteBuffer buffer, final ByteArrayOutputStream baos) {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            baos.write(buffer.get());
+        }
+        buffer.clear();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,339 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link Base64EncoderInputStream}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64EncoderInputStreamTest {
+
+    private static final String ENCODING = "US-ASCII";
+
+    /**
+     * Test class constructor.
+     */
+    public Base64EncoderInputStreamTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readZeroByteEndingTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(51, 29, 41, -123, 69, 3);
+        Assertions.assertThat(base64EncoderInputStream).isAllBytesEqualTo(toBytes("Mx0phUUD"));
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readOneByteEndingTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(51, 29, 41, -123);
+        Assertions.assertThat(base64EncoderInputStream).isAllBytesEqualTo(toBytes("Mx0phQ=="));
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readTwoByteEndingTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(51, 29, 41, -123, 69);
+        Assertions.assertThat(base64EncoderInputStream).isAllBytesEqualTo(toBytes("Mx0phUU="));
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void emptyStreamTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream();
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+        Assertions.assertThat(base64EncoderInputStream.read(new byte[4], 0, 4)).isEqualTo(-1);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithBoundsTest() throws Exception {
+        byte[] base64 = new byte[10];
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(-86, -52, -31, -24, 19);
+        Assertions.assertThat(base64EncoderInputStream.read(base64, 1, 0)).isEqualTo(0);
+        Assertions.assertThat(base64EncoderInputStream.read(base64, 1, 3)).isEqualTo(3);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo('h');
+        Assertions.assertThat(base64EncoderInputStream.read(base64, 4, 6)).isEqualTo(4);
+        Assertions.assertThat(base64EncoderInputStream.read(base64, 4, 6)).isEqualTo(-1);
+        Assertions.assertThat(base64).containsExactlyInOrder(0, 'q', 's', 'z', '6', 'B', 'M', '=', 0, 0);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLargeArrayTest() throws Exception {
+        byte[] bytes = new byte[100000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        byte[] base64 = Base64Helper.toBase64Bytes(bytes);
+        int[] chunkSizes = new int[]{1, 2, 3, 4, 5, 7, 8192, 8193, 200000};
+        for (int chunkSize : chunkSizes) {
+            Base64EncoderInputStream base64EncoderInputStream = new Base64EncoderInputStream(new ByteArrayInputStream(bytes));
+            Assertions.assertThat(new String(readAll(base64EncoderInputStream, chunkSize), ENCODING)).isEqualTo(new String(base64, ENCODING));
+        }
+        for (int maxReadLength = 1; maxReadLength < 5; maxReadLength++) {
+            Base64EncoderInputStream base64EncoderInputStream = new Base64EncoderInputStream(new PartialInputStream(bytes, maxReadLength));
+            Assertions.assertThat(new String(readAll(base64EncoderInputStream, 8192), ENCODING)).isEqualTo(new String(base64, ENCODING));
+        }
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void readWithBoundsNullByteArrayTest() throws Exception {
+        createBase64EncoderInputStream(1, 2, 3).read(null, 0, 1);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithWrongBoundsTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(1, 2, 3);
+        try {
+            base64EncoderInputStream.read(new byte[4], -1, 2);
+            Assertions.fail("Base64EncoderInputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            base64EncoderInputStream.read(new byte[4], 0, -1);
+            Assertions.fail("Base64EncoderInputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            base64EncoderInputStream.read(new byte[4], 2, 3);
+            Assertions.fail("Base64EncoderInputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readExceptionTest() throws Exception {
+        InputStream inputStream = DataHelper.createInputStreamBuilder().setContent(new byte[]{1, 2, 3}).setReadException("read exception").buildInputStream();
+        Base64EncoderInputStream base64EncoderInputStream = new Base64EncoderInputStream(inputStream);
+        try {
+            base64EncoderInputStream.read();
+            Assertions.fail("Base64EncoderInputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("read exception");
+        }
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void availableTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = createBase64EncoderInputStream(-86, -52, -31, -24, 19);
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(4);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo('q');
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(3);
+        Assertions.assertThat(base64EncoderInputStream.read(new byte[3], 0, 3)).isEqualTo(3);
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(0);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo('6');
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(3);
+        Assertions.assertThat(base64EncoderInputStream.read(new byte[3], 0, 3)).isEqualTo(3);
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(0);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo(-1);
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(0);
+
+        base64EncoderInputStream = new Base64EncoderInputStream(new PartialInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7}, 4));
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(8);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo('A');
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(7);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void availableHugeStreamTest() throws Exception {
+        Base64EncoderInputStream base64EncoderInputStream = new Base64EncoderInputStream(new HugeInputStream(0));
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(Integer.MAX_VALUE);
+        Assertions.assertThat(base64EncoderInputStream.read()).isEqualTo('A');
+        Assertions.assertThat(base64EncoderInputStream.available()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@link Base64EncoderInputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closeTest() throws Exception {
+        InputStream inputStream = DataHelper.createInputStreamBuilder().buildInputStream();
+        Base64EncoderInputStream base64EncoderInputStream = new Base64EncoderInputStream(inputStream);
+        Assertions.assertThat(base64EncoderInputStream).isCompleted();
+
+        Assertions.assertThat(((IsCloseable) inputStream).isClosed()).isFalse();
+        base64EncoderInputStream.close();
+        Assertions.assertThat(((IsCloseable) inputStream).isClosed()).isTrue();
+    }
+
+    private static Base64EncoderInputStream createBase64EncoderInputStream(final int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return new Base64EncoderInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] toBytes(final String base64) throws IOException {
+        return base64.getBytes(ENCODING);
+    }
+
+    private static byte[] readAll(final InputStream inputStream, final int chunkSize) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int read;
+        while (true) {
+            read = inputStream.read(chunk, 0, chunkSize);
+            if (read < 0) {
+                break;
+            }
+            baos.write(chunk, 0, read);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialInputStream extends InputStream {
+
+        private final ByteArrayInputStream _inputStream;
+
+        private final int _maxReadLength;
+
+        PartialInputStream(final byte[] bytes, final int maxReadLength) {
+            super();
+            _inputStream = new ByteArrayInputStream(bytes);
+            _maxReadLength = maxReadLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return _inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            return _inputStream.read(bytes, offset, Math.min(length, _maxReadLength));
+        }
+
+        @Override
+        public int available() throws IOException {
+            return _inputStream.available();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class HugeInputStream extends InputStream {
+
+        private final int _value;
+
+        HugeInputStream(final int value) {
+            super();
+            _value = value;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return _value;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            return count;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return Integer.MAX_VALUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64EncoderTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64EncoderTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64EncoderTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64EncoderTask} class test.
+     */
+    @Test
+    public void computeTest() {
+        byte[] bytes = new byte[]{1, (byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13, 51, 29, 41, (byte) -123, 69, 3};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            byte[] base64 = new byte[18];
+            pool.invoke(new Base64EncoderTask(bytes, 1, 12, base64, 1, 12));
+            Assertions.assertThat(new String(base64, 1, 16)).isEqualTo("qszh6BMNMx0phUUD");
+
+            base64 = new byte[18];
+            pool.invoke(new Base64EncoderTask(bytes, 1, 12, base64, 1, 1));
+            Assertions.assertThat(new String(base64, 1, 16)).isEqualTo("qszh6BMNMx0phUUD");
+
+            base64 = new byte[17];
+            pool.invoke(new Base64EncoderTask(bytes, 1, 11, base64, 1, 2));
+            Assertions.assertThat(new String(base64, 1, 16)).isEqualTo("qszh6BMNMx0phUU=");
+
+            base64 = new byte[17];
+            pool.invoke(new Base64EncoderTask(bytes, 1, 10, base64, 1, 0));
+            Assertions.assertThat(new String(base64, 1, 16)).isEqualTo("qszh6BMNMx0phQ==");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
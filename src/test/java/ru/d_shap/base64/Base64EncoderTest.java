@@ -0,0 +1,215 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64Encoder}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64EncoderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64EncoderTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void encodeTest() {
+        Assertions.assertThat(encode(new byte[]{}, 1, 4, false)).isEqualTo("");
+        Assertions.assertThat(encode(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 6, 8, false)).isEqualTo("qszh6BMN");
+        Assertions.assertThat(encode(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19}, 5, 8, false)).isEqualTo("qszh6BM=");
+        Assertions.assertThat(encode(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232}, 4, 8, false)).isEqualTo("qszh6A==");
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void encodeFragmentsTest() {
+        for (int length = 0; length < 40; length++) {
+            byte[] bytes = createBytes(length);
+            String expected = Base64Helper.toBase64(bytes);
+            for (int fragmentSize = 1; fragmentSize < 8; fragmentSize++) {
+                for (int outputBufferSize = 1; outputBufferSize < 10; outputBufferSize++) {
+                    Assertions.assertThat(encode(bytes, fragmentSize, outputBufferSize, false)).isEqualTo(expected);
+                    Assertions.assertThat(encode(bytes, fragmentSize, outputBufferSize, true)).isEqualTo(expected);
+                }
+            }
+        }
+        byte[] bytes = createBytes(10000);
+        Assertions.assertThat(encode(bytes, 1000, 999, false)).isEqualTo(Base64Helper.toBase64(bytes));
+        Assertions.assertThat(encode(bytes, 1000, 999, true)).isEqualTo(Base64Helper.toBase64(bytes));
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void encodeOverflowTest() {
+        Base64Encoder encoder = new Base64Encoder();
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19});
+        ByteBuffer base64 = ByteBuffer.allocate(3);
+
+        Assertions.assertThat(encoder.encode(bytes, base64, true)).isSameAs(Base64Result.OVERFLOW);
+        Assertions.assertThat(bytes.position()).isEqualTo(3);
+        Assertions.assertThat(getContent(base64)).isEqualTo("qsz");
+
+        Assertions.assertThat(encoder.encode(bytes, base64, true)).isSameAs(Base64Result.OVERFLOW);
+        Assertions.assertThat(bytes.position()).isEqualTo(5);
+        Assertions.assertThat(getContent(base64)).isEqualTo("h6B");
+
+        Assertions.assertThat(encoder.encode(bytes, base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("M=");
+
+        Assertions.assertThat(encoder.encode(bytes, base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("");
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void encodeUnderflowTest() {
+        Base64Encoder encoder = new Base64Encoder();
+        ByteBuffer base64 = ByteBuffer.allocate(16);
+
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) 170, (byte) 204}), base64, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("");
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) -31, (byte) 232}), base64, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("qszh");
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{}), base64, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("");
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("6A==");
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void encodeAfterEndOfInputTest() {
+        Base64Encoder encoder = new Base64Encoder();
+        ByteBuffer base64 = ByteBuffer.allocate(16);
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) 170, (byte) 204, (byte) -31}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) 232}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("qszh6A==");
+
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        try {
+            encoder.encode(ByteBuffer.wrap(new byte[]{19}), base64, true);
+            Assertions.fail("Base64Encoder test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Input obtained after the end of input");
+        }
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test
+    public void resetTest() {
+        Base64Encoder encoder = new Base64Encoder();
+        ByteBuffer base64 = ByteBuffer.allocate(16);
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) 170}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("qg==");
+        encoder.reset();
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{(byte) 170, (byte) 204}), base64, false)).isSameAs(Base64Result.UNDERFLOW);
+        encoder.reset();
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{51, 29, 41}), base64, true)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("Mx0p");
+
+        base64 = ByteBuffer.allocate(2);
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{51, 29, 41}), base64, true)).isSameAs(Base64Result.OVERFLOW);
+        encoder.reset();
+        Assertions.assertThat(encoder.encode(ByteBuffer.wrap(new byte[]{51}), base64, false)).isSameAs(Base64Result.UNDERFLOW);
+        Assertions.assertThat(getContent(base64)).isEqualTo("Mx");
+    }
+
+    /**
+     * {@link Base64Encoder} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void encodeNullBufferTest() {
+        new Base64Encoder().encode(null, ByteBuffer.allocate(4), true);
+    }
+
+    private static String encode(final byte[] bytes, final int fragmentSize, final int outputBufferSize, final boolean direct) {
+        Base64Encoder encoder = new Base64Encoder();
+        ByteBuffer base64 = createBuffer(outputBufferSize, direct);
+        StringBuilder result = new StringBuilder();
+        int index = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            int length = Math.min(fragmentSize, bytes.length - index);
+            ByteBuffer fragment = createBuffer(length, direct);
+            fragment.put(bytes, index, length);
+            fragment.flip();
+            index += length;
+            endOfInput = index == bytes.length;
+            while (encoder.encode(fragment, base64, endOfInput) == Base64Result.OVERFLOW) {
+                result.append(getContent(base64));
+            }
+            result.append(getContent(base64));
+            Assertions.assertThat(fragment.hasRemaining()).isFalse();
+        }
+        return result.toString();
+    }
+
+    private static ByteBuffer createBuffer(final int size, final boolean direct) {
+        if (direct) {
+            return ByteBuffer.allocateDirect(size);
+        } else {
+            return ByteBuffer.allocate(size);
+        }
+    }
+
+    private static String getContent(final ByteBuffer buffer) {
+        buffer.flip();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        while (buffer.hasRemaining()) {
+            baos.write(buffer.get());
+        }
+        buffer.clear();
+        return new String(baos.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,468 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64FileHelper}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64FileHelperTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64FileHelperTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64Test() throws Exception {
+        Path source = Files.createTempFile("base64", ".bin");
+        Path target = Files.createTempFile("base64", ".txt");
+        try {
+            Files.write(source, new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19});
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target)).isEqualTo(8L);
+            Assertions.assertThat(readString(target)).isEqualTo("qszh6BM=");
+
+            Files.write(source, new byte[]{});
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target)).isEqualTo(0L);
+            Assertions.assertThat(readString(target)).isEqualTo("");
+
+            for (int length = 0; length < 20; length++) {
+                byte[] bytes = createBytes(length);
+                String expected = Base64Helper.toBase64(bytes);
+                Files.write(source, bytes);
+                for (int windowSize = 4; windowSize < 10; windowSize++) {
+                    Assertions.assertThat(Base64FileHelper.toBase64(source, target, windowSize)).isEqualTo((long) expected.length());
+                    Assertions.assertThat(readString(target)).isEqualTo(expected);
+                }
+            }
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64ParallelTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".bin");
+        Path target = Files.createTempFile("base64", ".txt");
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            byte[] bytes = createBytes(100000);
+            String expected = Base64Helper.toBase64(bytes);
+            Files.write(source, bytes);
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target, 1000, pool)).isEqualTo((long) expected.length());
+            Assertions.assertThat(readString(target)).isEqualTo(expected);
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target, 4096, pool)).isEqualTo((long) expected.length());
+            Assertions.assertThat(readString(target)).isEqualTo(expected);
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target, Base64FileHelper.DEFAULT_WINDOW_SIZE, pool)).isEqualTo((long) expected.length());
+            Assertions.assertThat(readString(target)).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBytesTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path target = Files.createTempFile("base64", ".bin");
+        try {
+            Files.write(source, "qszh6BM=".getBytes(StandardCharsets.US_ASCII));
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target)).isEqualTo(5L);
+            Assertions.assertThat(Files.readAllBytes(target)).containsExactlyInOrder(-86, -52, -31, -24, 19);
+
+            Files.write(source, "qszh6A==".getBytes(StandardCharsets.US_ASCII));
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target)).isEqualTo(4L);
+            Assertions.assertThat(Files.readAllBytes(target)).containsExactlyInOrder(-86, -52, -31, -24);
+
+            Files.write(source, new byte[]{});
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target)).isEqualTo(0L);
+            Assertions.assertThat(Files.readAllBytes(target)).containsExactlyInOrder();
+
+            for (int length = 0; length < 20; length++) {
+                byte[] bytes = createBytes(length);
+                String base64 = Base64Helper.toBase64(bytes);
+                Files.write(source, base64.getBytes(StandardCharsets.US_ASCII));
+                for (int windowSize = 4; windowSize < 10; windowSize++) {
+                    Assertions.assertThat(Base64FileHelper.toBytes(source, target, windowSize)).isEqualTo((long) length);
+                    Assertions.assertThat(Base64Helper.toBase64(Files.readAllBytes(target))).isEqualTo(base64);
+                }
+            }
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBytesParallelTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path target = Files.createTempFile("base64", ".bin");
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            byte[] bytes = createBytes(100000);
+            String base64 = Base64Helper.toBase64(bytes);
+            Files.write(source, base64.getBytes(StandardCharsets.US_ASCII));
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target, 1000, pool)).isEqualTo(100000L);
+            Assertions.assertThat(Base64Helper.toBase64(Files.readAllBytes(target))).isEqualTo(base64);
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target, 4096, pool)).isEqualTo(100000L);
+            Assertions.assertThat(Base64Helper.toBase64(Files.readAllBytes(target))).isEqualTo(base64);
+            Assertions.assertThat(Base64FileHelper.toBytes(source, target, Base64FileHelper.DEFAULT_WINDOW_SIZE, pool)).isEqualTo(100000L);
+            Assertions.assertThat(Base64Helper.toBase64(Files.readAllBytes(target))).isEqualTo(base64);
+        } finally {
+            pool.shutdown();
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBytesWrongCharacterTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path target = Files.createTempFile("base64", ".bin");
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Files.write(source, "qszh6B.NMx0phUUD".getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64FileHelper.toBytes(source, target, 4);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+            }
+            Assertions.assertThat(Files.exists(target)).isFalse();
+
+            Files.write(source, "qszh6BM=Mx0phUUD".getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64FileHelper.toBytes(source, target, 8);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('=', 61)");
+            }
+            Assertions.assertThat(Files.exists(target)).isFalse();
+
+            Files.write(source, "qszh6B.NMx0ph.UD".getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64FileHelper.toBytes(source, target, 4, pool);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+            }
+            Assertions.assertThat(Files.exists(target)).isFalse();
+
+            Files.write(source, "qszh6BMNMx0phU.D".getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64FileHelper.toBytes(source, target, 4, pool);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+            }
+            Assertions.assertThat(Files.exists(target)).isFalse();
+        } finally {
+            pool.shutdown();
+            Files.delete(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBytesWrongLengthTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path target = Files.createTempFile("base64", ".bin");
+        try {
+            Files.write(source, "qszh6".getBytes(StandardCharsets.US_ASCII));
+            Base64FileHelper.toBytes(source, target);
+            Assertions.fail("Base64FileHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 file length (5)");
+            Assertions.assertThat(Files.exists(target)).isFalse();
+        } finally {
+            Files.delete(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void wrongWindowSizeTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path target = Files.createTempFile("base64", ".bin");
+        try {
+            try {
+                Base64FileHelper.toBase64(source, target, 3);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong window size (3)");
+            }
+            try {
+                Base64FileHelper.toBytes(source, target, 0);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong window size (0)");
+            }
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void existingTargetTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".bin");
+        Path target = Files.createTempFile("base64", ".txt");
+        try {
+            Files.write(source, new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19});
+            Files.write(target, createBytes(1000));
+            Assertions.assertThat(Base64FileHelper.toBase64(source, target)).isEqualTo(8L);
+            Assertions.assertThat(readString(target)).isEqualTo("qszh6BM=");
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void wrongTargetTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".bin");
+        Path target = Files.createTempDirectory("base64");
+        Path targetContent = target.resolve("content.txt");
+        try {
+            Files.write(source, new byte[]{1, 2, 3});
+            try {
+                Base64FileHelper.toBase64(source, target);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (IOException ex) {
+                Assertions.assertThat(ex.getSuppressed()).hasLength(0);
+            }
+            Assertions.assertThat(Files.exists(target)).isFalse();
+
+            Files.createDirectory(target);
+            Files.write(targetContent, new byte[]{1, 2, 3});
+            try {
+                Base64FileHelper.toBase64(source, target);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (IOException ex) {
+                Assertions.assertThat(ex.getSuppressed()).hasLength(1);
+            }
+            Assertions.assertThat(Files.exists(target)).isTrue();
+        } finally {
+            Files.delete(source);
+            Files.deleteIfExists(targetContent);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void sameSourceAndTargetTest() throws Exception {
+        Path source = Files.createTempFile("base64", ".txt");
+        Path otherSource = source.getParent().resolve(".").resolve(source.getFileName());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Files.write(source, "qszh6BM=".getBytes(StandardCharsets.US_ASCII));
+            try {
+                Base64FileHelper.toBase64(source, source);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Source file and target file are the same file");
+            }
+            Assertions.assertThat(readString(source)).isEqualTo("qszh6BM=");
+            try {
+                Base64FileHelper.toBytes(source, otherSource);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Source file and target file are the same file");
+            }
+            Assertions.assertThat(readString(source)).isEqualTo("qszh6BM=");
+            try {
+                Base64FileHelper.toBytes(otherSource, source, 4, pool);
+                Assertions.fail("Base64FileHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Source file and target file are the same file");
+            }
+            Assertions.assertThat(readString(source)).isEqualTo("qszh6BM=");
+        } finally {
+            pool.shutdown();
+            Files.delete(source);
+        }
+    }
+
+    /**
+     * {@link Base64FileHelper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void getBytesLengthWithPartialReadTest() throws Exception {
+        Assertions.assertThat(Base64FileHelper.getBytesLength(new PartialChannel("qszh6BM=".getBytes(StandardCharsets.US_ASCII), 8), 8)).isEqualTo(5L);
+        Assertions.assertThat(Base64FileHelper.getBytesLength(new PartialChannel("qszh6A==".getBytes(StandardCharsets.US_ASCII), 8), 8)).isEqualTo(4L);
+        Assertions.assertThat(Base64FileHelper.getBytesLength(new PartialChannel("qszh6BMN".getBytes(StandardCharsets.US_ASCII), 8), 8)).isEqualTo(6L);
+        try {
+            Base64FileHelper.getBytesLength(new PartialChannel("qszh6BM".getBytes(StandardCharsets.US_ASCII), 8), 8);
+            Assertions.fail("Base64FileHelper test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+    }
+
+    private static String readString(final Path path) throws Exception {
+        return new String(Files.readAllBytes(path), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+    /**
+     * Channel, that reads one byte at a time and reports the specified size.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialChannel implements SeekableByteChannel {
+
+        private final byte[] _content;
+
+        private final long _size;
+
+        private int _position;
+
+        PartialChannel(final byte[] content, final long size) {
+            super();
+            _content = content;
+            _size = size;
+            _position = 0;
+        }
+
+        @Override
+        public int read(final ByteBuffer buffer) {
+            if (_position >= _content.length) {
+                return -1;
+            }
+            buffer.put(_content[_position]);
+            _position++;
+            return 1;
+        }
+
+        @Override
+        public int write(final ByteBuffer buffer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() {
+            return _position;
+        }
+
+        @Override
+        public SeekableByteChannel position(final long position) {
+            _position = (int) position;
+            return this;
+        }
+
+        @Override
+        public long size() {
+            return _size;
+        }
+
+        @Override
+        public SeekableByteChannel truncate(final long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+
+    }
+
+}
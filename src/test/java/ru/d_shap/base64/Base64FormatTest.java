@@ -0,0 +1,260 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64Format}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64FormatTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64FormatTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constantsTest() {
+        Assertions.assertThat(Base64Format.STANDARD.getAlphabet()).isSameAs(Base64Alphabet.STANDARD);
+        Assertions.assertThat(Base64Format.STANDARD.getPadding()).isSameAs(Base64Padding.PADDED);
+        Assertions.assertThat(Base64Format.URL_SAFE.getAlphabet()).isSameAs(Base64Alphabet.URL_SAFE);
+        Assertions.assertThat(Base64Format.URL_SAFE.getPadding()).isSameAs(Base64Padding.PADDED);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getAlphabet()).isSameAs(Base64Alphabet.URL_SAFE);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getPadding()).isSameAs(Base64Padding.UNPADDED);
+        Assertions.assertThat(Base64Format.MIXED.getAlphabet()).isSameAs(Base64Alphabet.MIXED);
+        Assertions.assertThat(Base64Format.MIXED.getPadding()).isSameAs(Base64Padding.OPTIONAL);
+        Assertions.assertThat(Base64Format.MIXED.getLeniency()).isSameAs(Base64Leniency.STRICT);
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Base64Format format = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+        Assertions.assertThat(format.getAlphabet()).isSameAs(Base64Alphabet.URL_SAFE);
+        Assertions.assertThat(format.getPadding()).isSameAs(Base64Padding.OPTIONAL);
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constructorWithNullValuesTest() {
+        try {
+            new Base64Format(null, Base64Padding.PADDED);
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, null);
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constructorWithLinesTest() {
+        Assertions.assertThat(Base64Format.STANDARD.getLineLength()).isEqualTo(0);
+        Assertions.assertThat(Base64Format.STANDARD.getLineSeparator()).isEqualTo("");
+        Assertions.assertThat(Base64Format.MIME.getAlphabet()).isSameAs(Base64Alphabet.STANDARD);
+        Assertions.assertThat(Base64Format.MIME.getPadding()).isSameAs(Base64Padding.PADDED);
+        Assertions.assertThat(Base64Format.MIME.getLineLength()).isEqualTo(76);
+        Assertions.assertThat(Base64Format.MIME.getLineSeparator()).isEqualTo("\r\n");
+
+        Base64Format format = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 66, "\n");
+        Assertions.assertThat(format.getAlphabet()).isSameAs(Base64Alphabet.URL_SAFE);
+        Assertions.assertThat(format.getPadding()).isSameAs(Base64Padding.UNPADDED);
+        Assertions.assertThat(format.getLineLength()).isEqualTo(64);
+        Assertions.assertThat(format.getLineSeparator()).isEqualTo("\n");
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constructorWithWrongLinesTest() {
+        try {
+            new Base64Format(null, Base64Padding.PADDED, 76, "\r\n");
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, null, 76, "\r\n");
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 76, null);
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 3, "\r\n");
+            Assertions.fail("Base64Format test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong line length (3)");
+        }
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void constructorWithLeniencyTest() {
+        Assertions.assertThat(Base64Format.STANDARD.getLeniency()).isSameAs(Base64Leniency.STRICT);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getLeniency()).isSameAs(Base64Leniency.STRICT);
+        Assertions.assertThat(Base64Format.MIME.getLeniency()).isSameAs(Base64Leniency.SKIP_NON_ALPHABET);
+        Assertions.assertThat(new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 76, "\r\n").getLeniency()).isSameAs(Base64Leniency.STRICT);
+
+        Base64Format format1 = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL, Base64Leniency.SKIP_WHITESPACE);
+        Assertions.assertThat(format1.getAlphabet()).isSameAs(Base64Alphabet.URL_SAFE);
+        Assertions.assertThat(format1.getPadding()).isSameAs(Base64Padding.OPTIONAL);
+        Assertions.assertThat(format1.getLineLength()).isEqualTo(0);
+        Assertions.assertThat(format1.getLeniency()).isSameAs(Base64Leniency.SKIP_WHITESPACE);
+
+        Base64Format format2 = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 64, "\n", Base64Leniency.SKIP_WHITESPACE);
+        Assertions.assertThat(format2.getLineLength()).isEqualTo(64);
+        Assertions.assertThat(format2.getLineSeparator()).isEqualTo("\n");
+        Assertions.assertThat(format2.getLeniency()).isSameAs(Base64Leniency.SKIP_WHITESPACE);
+
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, null);
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 76, "\r\n", null);
+            Assertions.fail("Base64Format test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void isCharacterSkippedTest() {
+        Base64Format format1 = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.STRICT);
+        Base64Format format2 = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format format3 = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_NON_ALPHABET);
+        Base64Format format4 = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_NON_ALPHABET);
+        int[] characters = new int[]{' ', '\t', '\n', 11, '\f', '\r', 0, 8, 14, '=', '+', '-', 'A', '.', 255, 256};
+        boolean[] skipped1 = new boolean[]{false, false, false, false, false, false, false, false, false, false, false, false, false, false, false, false};
+        boolean[] skipped2 = new boolean[]{true, true, true, true, true, true, false, false, false, false, false, false, false, false, false, false};
+        boolean[] skipped3 = new boolean[]{true, true, true, true, true, true, true, true, true, false, true, false, false, true, true, true};
+        boolean[] skipped4 = new boolean[]{true, true, true, true, true, true, true, true, true, true, true, false, false, true, true, true};
+        for (int i = 0; i < characters.length; i++) {
+            Assertions.assertThat(format1.isCharacterSkipped(characters[i]) == skipped1[i]).isTrue();
+            Assertions.assertThat(format2.isCharacterSkipped(characters[i]) == skipped2[i]).isTrue();
+            Assertions.assertThat(format3.isCharacterSkipped(characters[i]) == skipped3[i]).isTrue();
+            Assertions.assertThat(format4.isCharacterSkipped(characters[i]) == skipped4[i]).isTrue();
+        }
+        Assertions.assertThat(format1.isStrict()).isTrue();
+        Assertions.assertThat(format2.isStrict()).isFalse();
+        Assertions.assertThat(format3.isStrict()).isFalse();
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void paddingTest() {
+        Base64Format format1 = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED);
+        Assertions.assertThat(format1.isPadWritten()).isTrue();
+        Assertions.assertThat(format1.isPadRequired()).isTrue();
+        Assertions.assertThat(format1.isPadAllowed()).isTrue();
+
+        Base64Format format2 = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.UNPADDED);
+        Assertions.assertThat(format2.isPadWritten()).isFalse();
+        Assertions.assertThat(format2.isPadRequired()).isFalse();
+        Assertions.assertThat(format2.isPadAllowed()).isFalse();
+
+        Base64Format format3 = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.OPTIONAL);
+        Assertions.assertThat(format3.isPadWritten()).isTrue();
+        Assertions.assertThat(format3.isPadRequired()).isFalse();
+        Assertions.assertThat(format3.isPadAllowed()).isTrue();
+    }
+
+    /**
+     * {@link Base64Format} class test.
+     */
+    @Test
+    public void getBase64LengthTest() {
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(0)).isEqualTo(0L);
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(1)).isEqualTo(4L);
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(2)).isEqualTo(4L);
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(3)).isEqualTo(4L);
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(4)).isEqualTo(8L);
+        Assertions.assertThat(Base64Format.URL_SAFE.getBase64Length(3000000000L)).isEqualTo(4000000000L);
+
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(0)).isEqualTo(0L);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(1)).isEqualTo(2L);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(2)).isEqualTo(3L);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(3)).isEqualTo(4L);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(4)).isEqualTo(6L);
+        Assertions.assertThat(Base64Format.URL_SAFE_UNPADDED.getBase64Length(3000000001L)).isEqualTo(4000000002L);
+
+        Assertions.assertThat(Base64Format.MIME.getBase64Length(0)).isEqualTo(0L);
+        Assertions.assertThat(Base64Format.MIME.getBase64Length(57)).isEqualTo(76L);
+        Assertions.assertThat(Base64Format.MIME.getBase64Length(58)).isEqualTo(82L);
+        Assertions.assertThat(Base64Format.MIME.getBase64Length(114)).isEqualTo(154L);
+        Assertions.assertThat(Base64Format.MIME.getBase64Length(115)).isEqualTo(160L);
+
+        Base64Format format = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 8, "\n");
+        Assertions.assertThat(format.getBase64Length(0)).isEqualTo(0L);
+        Assertions.assertThat(format.getBase64Length(1)).isEqualTo(2L);
+        Assertions.assertThat(format.getBase64Length(6)).isEqualTo(8L);
+        Assertions.assertThat(format.getBase64Length(7)).isEqualTo(11L);
+        Assertions.assertThat(format.getBase64Length(12)).isEqualTo(17L);
+        Assertions.assertThat(format.getBase64Length(13)).isEqualTo(20L);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(Base64Format.MIME.getBase64Length(i)).isEqualTo(Base64Helper.getBase64Length(i, 76, 2));
+        }
+
+        try {
+            Base64Format.URL_SAFE_UNPADDED.getBase64Length(-1);
+            Assertions.fail("Base64Format test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong bytes length (-1)");
+        }
+    }
+
+}
@@ -19,6 +19,10 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.base64;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
@@ -30,6 +34,8 @@ import ru.d_shap.assertions.Assertions;
  */
 public final class Base64HelperTest {
 
+    private static final String ENCODING = "US-ASCII";
+
     /**
      * Test class constructor.
      */
@@ -171,6 +177,183 @@ public final class Base64HelperTest {
         }
     }
 
+    /**
+     * {@link Base64Helper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64SpecifiedTest() throws Exception {
+        byte[] base64 = new byte[8];
+        Assertions.assertThat(Base64Helper.toBase64(new byte[0], base64)).isEqualTo(0);
+        Assertions.assertThat(base64).containsExactlyInOrder(0, 0, 0, 0, 0, 0, 0, 0);
+
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, base64)).isEqualTo(8);
+        Assertions.assertThat(new String(base64, ENCODING)).isEqualTo("qszh6BMN");
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, base64)).isEqualTo(8);
+        Assertions.assertThat(new String(base64, ENCODING)).isEqualTo("Mx0phUU=");
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232}, base64)).isEqualTo(8);
+        Assertions.assertThat(new String(base64, ENCODING)).isEqualTo("qszh6A==");
+
+        base64 = new byte[10];
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 1, 4, base64)).isEqualTo(8);
+        Assertions.assertThat(new String(base64, 0, 8, ENCODING)).isEqualTo("zOHoEw==");
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, base64, 2)).isEqualTo(8);
+        Assertions.assertThat(new String(base64, ENCODING)).isEqualTo("zOMx0phUU=");
+        Assertions.assertThat(Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, 2, 3, base64, 1)).isEqualTo(4);
+        Assertions.assertThat(new String(base64, ENCODING)).isEqualTo("zKYVFphUU=");
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBase64SpecifiedWithNullBase64ArrayTest() {
+        Base64Helper.toBase64(new byte[]{51, 29, 41}, (byte[]) null);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64SpecifiedWithWrongBoundsTest() {
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, -1, 2, new byte[8], 0);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, 0, 6, new byte[8], 0);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (6)");
+        }
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, new byte[8], -1);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (-1)");
+        }
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, new byte[8], 9);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (9)");
+        }
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, new byte[8], 1);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (7), expected length is (8)");
+        }
+        try {
+            Base64Helper.toBase64(new byte[]{51, 29, 41, (byte) -123, 69}, new byte[7]);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (7), expected length is (8)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64BytesTest() throws Exception {
+        Assertions.assertThat(Base64Helper.toBase64Bytes(new byte[0])).hasLength(0);
+
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}), ENCODING)).isEqualTo("qszh6BMN");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123, 69, 3}), ENCODING)).isEqualTo("Mx0phUUD");
+
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19}), ENCODING)).isEqualTo("qszh6BM=");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123, 69}), ENCODING)).isEqualTo("Mx0phUU=");
+
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232}), ENCODING)).isEqualTo("qszh6A==");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123}), ENCODING)).isEqualTo("Mx0phQ==");
+
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 1, 4), ENCODING)).isEqualTo("zOHoEw==");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 2, 3), ENCODING)).isEqualTo("4egT");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 4, 2), ENCODING)).isEqualTo("Ew0=");
+        Assertions.assertThat(Base64Helper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 6, 0)).hasLength(0);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBase64BytesWithNullByteArrayTest() {
+        Base64Helper.toBase64Bytes(null);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64BytesWithWrongBoundsTest() {
+        try {
+            Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123, 69}, -1, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123, 69}, 0, -1);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array length (-1)");
+        }
+        try {
+            Base64Helper.toBase64Bytes(new byte[]{51, 29, 41, (byte) -123, 69}, 3, 3);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (6)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64BufferTest() {
+        String[] expected = new String[]{"", "qszh6A==", "qszh6BM=", "qszh6BMN"};
+        int[] limits = new int[]{1, 5, 6, 7};
+        for (ByteBuffer bytes : createBuffers(new byte[]{1, (byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13, 1})) {
+            for (ByteBuffer base64 : new ByteBuffer[]{ByteBuffer.allocate(12), ByteBuffer.allocateDirect(12), ByteBuffer.wrap(new byte[14], 1, 12).slice()}) {
+                for (int i = 0; i < expected.length; i++) {
+                    bytes.limit(limits[i]);
+                    bytes.position(1);
+                    base64.clear();
+                    base64.position(2);
+                    Assertions.assertThat(Base64Helper.toBase64(bytes, base64)).isEqualTo(expected[i].length());
+                    Assertions.assertThat(bytes.position()).isEqualTo(limits[i]);
+                    Assertions.assertThat(base64.position()).isEqualTo(2 + expected[i].length());
+                    Assertions.assertThat(getBufferContent(base64, 2, expected[i].length())).containsExactlyInOrder(toArray(expected[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64BufferWithInsufficientBufferLengthTest() {
+        for (ByteBuffer bytes : createBuffers(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13})) {
+            ByteBuffer base64 = ByteBuffer.allocate(8);
+            base64.position(1);
+            try {
+                Base64Helper.toBase64(bytes, base64);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong base64 buffer length (7), expected length is (8)");
+            }
+            Assertions.assertThat(bytes.position()).isEqualTo(0);
+            Assertions.assertThat(base64.position()).isEqualTo(1);
+        }
+    }
+
     /**
      * {@link Base64Helper} class test.
      */
@@ -188,6 +371,222 @@ public final class Base64HelperTest {
         Assertions.assertThat(Base64Helper.getBase64StringLength(9)).isEqualTo(12);
     }
 
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64StringLengthTooLargeTest() {
+        Assertions.assertThat(Base64Helper.getBase64StringLength(1610612733)).isEqualTo(2147483644);
+        try {
+            Base64Helper.getBase64StringLength(1610612734);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Too large base64 length (2147483648)");
+        }
+        try {
+            Base64Helper.getBase64StringLength(Integer.MAX_VALUE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Too large base64 length (2863311532)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64LengthTest() {
+        Assertions.assertThat(Base64Helper.getBase64Length(0L)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.getBase64Length(1L)).isEqualTo(4L);
+        Assertions.assertThat(Base64Helper.getBase64Length(2L)).isEqualTo(4L);
+        Assertions.assertThat(Base64Helper.getBase64Length(3L)).isEqualTo(4L);
+        Assertions.assertThat(Base64Helper.getBase64Length(4L)).isEqualTo(8L);
+        Assertions.assertThat(Base64Helper.getBase64Length(2147483647L)).isEqualTo(2863311532L);
+        Assertions.assertThat(Base64Helper.getBase64Length(21474836480L)).isEqualTo(28633115308L);
+        try {
+            Base64Helper.getBase64Length(-1L);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong bytes length (-1)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64LengthWithLinesTest() {
+        Assertions.assertThat(Base64Helper.getBase64Length(0L, 76, 2)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.getBase64Length(1L, 76, 2)).isEqualTo(4L);
+        Assertions.assertThat(Base64Helper.getBase64Length(57L, 76, 2)).isEqualTo(76L);
+        Assertions.assertThat(Base64Helper.getBase64Length(58L, 76, 2)).isEqualTo(82L);
+        Assertions.assertThat(Base64Helper.getBase64Length(114L, 76, 2)).isEqualTo(154L);
+        Assertions.assertThat(Base64Helper.getBase64Length(115L, 76, 2)).isEqualTo(160L);
+        Assertions.assertThat(Base64Helper.getBase64Length(6L, 7, 1)).isEqualTo(9L);
+        Assertions.assertThat(Base64Helper.getBase64Length(6L, 4, 0)).isEqualTo(8L);
+        Assertions.assertThat(Base64Helper.getBase64Length(3000000000L, 76, 2)).isEqualTo(4105263156L);
+        try {
+            Base64Helper.getBase64Length(-1L, 76, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong bytes length (-1)");
+        }
+        try {
+            Base64Helper.getBase64Length(1L, 3, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong line length (3)");
+        }
+        try {
+            Base64Helper.getBase64Length(1L, 76, -1);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong line separator length (-1)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBytesLengthTest() {
+        Assertions.assertThat(Base64Helper.getBytesLength(0L)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.getBytesLength(4L)).isEqualTo(3L);
+        Assertions.assertThat(Base64Helper.getBytesLength(8L)).isEqualTo(6L);
+        Assertions.assertThat(Base64Helper.getBytesLength(2863311532L)).isEqualTo(2147483649L);
+        Assertions.assertThat(Base64Helper.getBytesLength(28633115308L)).isEqualTo(21474836481L);
+        try {
+            Base64Helper.getBytesLength(-4L);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 length (-4)");
+        }
+        try {
+            Base64Helper.getBytesLength(5L);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 length (5)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBytesLengthWithLinesTest() {
+        Assertions.assertThat(Base64Helper.getBytesLength(0L, 76, 2)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.getBytesLength(4L, 76, 2)).isEqualTo(3L);
+        Assertions.assertThat(Base64Helper.getBytesLength(76L, 76, 2)).isEqualTo(57L);
+        Assertions.assertThat(Base64Helper.getBytesLength(82L, 76, 2)).isEqualTo(60L);
+        Assertions.assertThat(Base64Helper.getBytesLength(154L, 76, 2)).isEqualTo(114L);
+        Assertions.assertThat(Base64Helper.getBytesLength(160L, 76, 2)).isEqualTo(117L);
+        Assertions.assertThat(Base64Helper.getBytesLength(9L, 7, 1)).isEqualTo(6L);
+        Assertions.assertThat(Base64Helper.getBytesLength(4105263156L, 76, 2)).isEqualTo(3000000000L);
+        try {
+            Base64Helper.getBytesLength(-1L, 76, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 length (-1)");
+        }
+        try {
+            Base64Helper.getBytesLength(79L, 76, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 length (77)");
+        }
+        try {
+            Base64Helper.getBytesLength(4L, 0, 2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong line length (0)");
+        }
+        try {
+            Base64Helper.getBytesLength(4L, 76, -2);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong line separator length (-2)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBytesLengthFromDataTest() {
+        Assertions.assertThat(Base64Helper.getBytesLength("")).isEqualTo(0);
+        Assertions.assertThat(Base64Helper.getBytesLength("qszh6BMN")).isEqualTo(6);
+        Assertions.assertThat(Base64Helper.getBytesLength("qszh6BM=")).isEqualTo(5);
+        Assertions.assertThat(Base64Helper.getBytesLength("qszh6A==")).isEqualTo(4);
+
+        Assertions.assertThat(Base64Helper.getBytesLength(new byte[]{})).isEqualTo(0);
+        Assertions.assertThat(Base64Helper.getBytesLength(new byte[]{'q', 's', 'z', 'h'})).isEqualTo(3);
+        Assertions.assertThat(Base64Helper.getBytesLength(new byte[]{'q', 's', 'z', '='})).isEqualTo(2);
+        Assertions.assertThat(Base64Helper.getBytesLength(new byte[]{'q', 's', '=', '='})).isEqualTo(1);
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'.', 'q', 's', 'z', 'h', '6', 'B', 'M', '=', '.'});
+        buffer.position(1);
+        buffer.limit(9);
+        Assertions.assertThat(Base64Helper.getBytesLength(buffer)).isEqualTo(5);
+        Assertions.assertThat(buffer.position()).isEqualTo(1);
+        buffer.limit(5);
+        Assertions.assertThat(Base64Helper.getBytesLength(buffer)).isEqualTo(3);
+        buffer.limit(1);
+        Assertions.assertThat(Base64Helper.getBytesLength(buffer)).isEqualTo(0);
+
+        try {
+            Base64Helper.getBytesLength("qszh6");
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (5)");
+        }
+        try {
+            Base64Helper.getBytesLength(new byte[]{'q', 's', 'z'});
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (3)");
+        }
+        try {
+            Base64Helper.getBytesLength(ByteBuffer.wrap(new byte[]{'q', 's'}));
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 buffer length (2)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void convertGroupsToBase64Test() throws Exception {
+        byte[] base64 = new byte[12];
+        Base64Helper.convertGroupsToBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 0, 2, base64, 0);
+        Assertions.assertThat(new String(base64, 0, 8, ENCODING)).isEqualTo("qszh6BMN");
+
+        base64 = new byte[12];
+        Base64Helper.convertGroupsToBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 1, 1, base64, 2);
+        Assertions.assertThat(base64).containsExactlyInOrder(0, 0, 'z', 'O', 'H', 'o', 0, 0, 0, 0, 0, 0);
+
+        base64 = new byte[12];
+        Base64Helper.convertGroupsToBase64(new byte[]{51, 29, 41, (byte) -123, 69, 3}, 0, 0, base64, 0);
+        Assertions.assertThat(base64).containsExactlyInOrder(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64CharacterPairTest() {
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0x000)).isEqualTo('A' << 8 | 'A');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0xFFF)).isEqualTo('/' << 8 | '/');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0xAAC)).isEqualTo('q' << 8 | 's');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0xCE1)).isEqualTo('z' << 8 | 'h');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0xE81)).isEqualTo('6' << 8 | 'B');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0x30D)).isEqualTo('M' << 8 | 'N');
+        Assertions.assertThat(Base64Helper.getBase64CharacterPair(0xFBE)).isEqualTo('+' << 8 | '+');
+    }
+
     /**
      * {@link Base64Helper} class test.
      */
@@ -331,7 +730,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithNullStringTest() {
-        Base64Helper.toBytes(null, new byte[9]);
+        Base64Helper.toBytes((String) null, new byte[9]);
     }
 
     /**
@@ -382,7 +781,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithNullByteArrayTest() {
-        Base64Helper.toBytes("aAbB56Y+", null);
+        Base64Helper.toBytes("aAbB56Y+", (byte[]) null);
     }
 
     /**
@@ -433,7 +832,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithBase64BoundsAndNullStringTest() {
-        Base64Helper.toBytes(null, 4, 4, new byte[9]);
+        Base64Helper.toBytes((String) null, 4, 4, new byte[9]);
     }
 
     /**
@@ -572,7 +971,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithBase64BoundsAndNullByteArrayTest() {
-        Base64Helper.toBytes("aAbB56Y+", 4, 4, null);
+        Base64Helper.toBytes("aAbB56Y+", 4, 4, (byte[]) null);
     }
 
     /**
@@ -627,7 +1026,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithByteArrayOffsetAndNullStringTest() {
-        Base64Helper.toBytes(null, new byte[9], 2);
+        Base64Helper.toBytes((String) null, new byte[9], 2);
     }
 
     /**
@@ -823,7 +1222,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesSpecifiedWithBase64BoundsAndByteArrayOffsetAndNullStringTest() {
-        Base64Helper.toBytes(null, 4, 4, new byte[9], 1);
+        Base64Helper.toBytes((String) null, 4, 4, new byte[9], 1);
     }
 
     /**
@@ -1094,7 +1493,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesCreatedWithNullStringTest() {
-        Base64Helper.toBytes(null);
+        Base64Helper.toBytes((String) null);
     }
 
     /**
@@ -1205,7 +1604,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void toBytesCreatedWithBase64BoundsAndNullStringTest() {
-        Base64Helper.toBytes(null, 4, 4);
+        Base64Helper.toBytes((String) null, 4, 4);
     }
 
     /**
@@ -1339,6 +1738,114 @@ public final class Base64HelperTest {
         }
     }
 
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromBufferTest() {
+        String[] values = new String[]{"", "qszh6A==", "Mx0phUU=", "qszh6BMN"};
+        byte[][] expected = new byte[][]{{}, {-86, -52, -31, -24}, {51, 29, 41, -123, 69}, {-86, -52, -31, -24, 19, 13}};
+        for (int i = 0; i < values.length; i++) {
+            for (ByteBuffer base64 : createBuffers(toArray("?" + values[i] + "?"))) {
+                for (ByteBuffer bytes : new ByteBuffer[]{ByteBuffer.allocate(9), ByteBuffer.allocateDirect(9), ByteBuffer.wrap(new byte[11], 1, 9).slice()}) {
+                    base64.limit(values[i].length() + 1);
+                    base64.position(1);
+                    bytes.position(2);
+                    Assertions.assertThat(Base64Helper.toBytes(base64, bytes)).isEqualTo(expected[i].length);
+                    Assertions.assertThat(base64.position()).isEqualTo(values[i].length() + 1);
+                    Assertions.assertThat(bytes.position()).isEqualTo(2 + expected[i].length);
+                    Assertions.assertThat(getBufferContent(bytes, 2, expected[i].length)).containsExactlyInOrder(expected[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromBufferWithWrongBufferLengthTest() {
+        for (ByteBuffer base64 : createBuffers(toArray("qszh6BMN"))) {
+            base64.limit(7);
+            ByteBuffer bytes = ByteBuffer.allocate(9);
+            try {
+                Base64Helper.toBytes(base64, bytes);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong base64 buffer length (7)");
+            }
+            base64.limit(8);
+            bytes.position(4);
+            try {
+                Base64Helper.toBytes(base64, bytes);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong byte buffer length (5), expected length is (6)");
+            }
+            Assertions.assertThat(base64.position()).isEqualTo(0);
+            Assertions.assertThat(bytes.position()).isEqualTo(4);
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromBufferWithWrongCharacterTest() {
+        String[] wrongValues = new String[]{"qs-h6BMN", "qszh6B!N", "qs=h6BMN", "qszh6B=N", "qszh6BN=", "qszh6B==", "qszh6\u00c3=="};
+        String[] messages = new String[]{"Wrong character obtained ('-', 45)", "Wrong character obtained ('!', 33)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('N', 78)", "Wrong character obtained ('N', 78)", "Wrong character obtained ('B', 66)", "Wrong character obtained ('\u00c3', 195)"};
+        for (int i = 0; i < wrongValues.length; i++) {
+            for (ByteBuffer base64 : createBuffers(toArray(wrongValues[i]))) {
+                try {
+                    Base64Helper.toBytes(base64, ByteBuffer.allocate(6));
+                    Assertions.fail("Base64Helper test fail");
+                } catch (Base64RuntimeException ex) {
+                    Assertions.assertThat(ex).hasMessage(messages[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void convertDirectBufferInSeveralChunksTest() {
+        byte[] content = new byte[20000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31 + i / 7);
+        }
+        String expected = Base64Helper.toBase64(content);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(content.length + 1);
+        bytes.position(1);
+        bytes.put(content);
+        bytes.position(1);
+        ByteBuffer base64 = ByteBuffer.allocateDirect(expected.length() + 1);
+        base64.position(1);
+        Assertions.assertThat(Base64Helper.toBase64(bytes, base64)).isEqualTo(expected.length());
+        Assertions.assertThat(bytes.position()).isEqualTo(content.length + 1);
+        Assertions.assertThat(base64.position()).isEqualTo(expected.length() + 1);
+        Assertions.assertThat(new String(getBufferContent(base64, 1, expected.length()), StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+        base64.position(1);
+        bytes.clear();
+        bytes.position(1);
+        Assertions.assertThat(Base64Helper.toBytes(base64, bytes)).isEqualTo(content.length);
+        Assertions.assertThat(base64.position()).isEqualTo(expected.length() + 1);
+        Assertions.assertThat(bytes.position()).isEqualTo(content.length + 1);
+        Assertions.assertThat(Arrays.toString(getBufferContent(bytes, 1, content.length))).isEqualTo(Arrays.toString(content));
+
+        base64.put(9001, (byte) '.');
+        base64.position(1);
+        bytes.position(1);
+        try {
+            Base64Helper.toBytes(base64, bytes);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+        }
+    }
+
     /**
      * {@link Base64Helper} class test.
      */
@@ -1592,17 +2099,313 @@ public final class Base64HelperTest {
      * {@link Base64Helper} class test.
      */
     @Test
-    public void isBase64CharacterValidTest() {
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid(-2)).isFalse();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid(-1)).isFalse();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid(0)).isFalse();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid(1)).isFalse();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('a')).isTrue();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('A')).isTrue();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('z')).isTrue();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('Z')).isTrue();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('0')).isTrue();
-        Assertions.assertThat(Base64Helper.isBase64CharacterValid('1')).isTrue();
+    public void toBytesFromArraySpecifiedTest() {
+        byte[] bytes = new byte[9];
+        Assertions.assertThat(Base64Helper.toBytes(toArray(""), bytes)).isEqualTo(0);
+        Assertions.assertThat(bytes).containsExactlyInOrder(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6BMN"), bytes)).isEqualTo(6);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-86, -52, -31, -24, 19, 13, 0, 0, 0);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("Mx0phUU="), bytes)).isEqualTo(5);
+        Assertions.assertThat(bytes).containsExactlyInOrder(51, 29, 41, -123, 69, 13, 0, 0, 0);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6A=="), bytes)).isEqualTo(4);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-86, -52, -31, -24, 69, 13, 0, 0, 0);
+
+        bytes = new byte[9];
+        Assertions.assertThat(Base64Helper.toBytes(toArray("??qszh6BMN??"), 2, 8, bytes)).isEqualTo(6);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-86, -52, -31, -24, 19, 13, 0, 0, 0);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("Mx0phUU="), bytes, 4)).isEqualTo(5);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-86, -52, -31, -24, 51, 29, 41, -123, 69);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("??qszh6A==??"), 2, 8, bytes, 1)).isEqualTo(4);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-86, -86, -52, -31, -24, 29, 41, -123, 69);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6A=="), 4, 0, bytes, 9)).isEqualTo(0);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBytesFromArraySpecifiedWithNullArrayTest() {
+        Base64Helper.toBytes((byte[]) null, new byte[9]);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArraySpecifiedWithWrongBoundsTest() {
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), -1, 4, new byte[9], 0);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (-1)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), 0, -4, new byte[9], 0);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (-4)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), 4, 8, new byte[9], 0);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (12)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BM"), new byte[9]);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (7)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), new byte[9], -1);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), new byte[9], 10);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (10)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), new byte[9], 4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array length (5), expected length is (6)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArrayCreatedTest() {
+        Assertions.assertThat(Base64Helper.toBytes(toArray(""))).containsExactlyInOrder();
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6BMN"))).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("Mx0phUU="))).containsExactlyInOrder(51, 29, 41, -123, 69);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6A=="))).containsExactlyInOrder(-86, -52, -31, -24);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("??qszh6BMN??"), 2, 8)).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("??qszh6BMN??"), 6, 4)).containsExactlyInOrder(-24, 19, 13);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("??qszh6BMN??"), 6, 0)).containsExactlyInOrder();
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBytesFromArrayCreatedWithNullArrayTest() {
+        Base64Helper.toBytes((byte[]) null);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArrayCreatedWithWrongBoundsTest() {
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), -1, 4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (-1)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), 0, -4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (-4)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), 1, 8);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (9)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("qszh6BMN"), 1, 6);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (6)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArrayWithBlocksTest() {
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6BMNMx0phUUDqszh6A=="))).containsExactlyInOrder(-86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, -86, -52, -31, -24);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("qszh6BMNMx0phUUDqszh6BMN"))).containsExactlyInOrder(-86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, -86, -52, -31, -24, 19, 13);
+        Assertions.assertThat(Base64Helper.toBytes(toArray("AZaz09+/qszh6BMNMx0phUUDqszh6A=="))).containsExactlyInOrder(1, -106, -77, -45, -33, -65, -86, -52, -31, -24, 19, 13, 51, 29, 41, -123, 69, 3, -86, -52, -31, -24);
+
+        byte[] bytes = new byte[300];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            String base64 = Base64Helper.toBase64(bytes, 0, i);
+            Assertions.assertThat(Base64Helper.toBytes(toArray(base64))).containsExactlyInOrder(Base64Helper.toBytes(base64));
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64AndToBytesWithLargeArrayTest() {
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        int[] lengths = new int[]{189, 190, 191, 192, 193, 383, 384, 385, 767, 768, 769, 1000, 1536, 1999, 2000};
+        for (int length : lengths) {
+            for (int offset = 0; offset < 3; offset++) {
+                String base64 = Base64Helper.toBase64(bytes, offset, length - offset);
+                Assertions.assertThat(base64).isEqualTo(createBase64(bytes, offset, length - offset));
+
+                byte[] base64Bytes = toArray("??" + base64);
+                byte[] result = new byte[length + 1];
+                Assertions.assertThat(Base64Helper.toBytes(base64Bytes, 2, base64.length(), result, 1)).isEqualTo(length - offset);
+                for (int i = 0; i < length - offset; i++) {
+                    Assertions.assertThat(result[i + 1]).isEqualTo(bytes[i + offset]);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromLargeArrayWithWrongCharacterTest() {
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        byte[] base64 = Base64Helper.toBase64Bytes(bytes);
+        int[] positions = new int[]{0, 1, 63, 64, 500, 1001, 2600};
+        byte[] wrongCharacters = new byte[]{'-', '=', (byte) 0xC3, '{', '@', '[', '`'};
+        for (int position : positions) {
+            for (byte wrongCharacter : wrongCharacters) {
+                byte[] wrongBase64 = base64.clone();
+                wrongBase64[position] = wrongCharacter;
+                Assertions.assertThat(Base64Helper.isBase64String(wrongBase64)).isFalse();
+                try {
+                    Base64Helper.toBytes(wrongBase64);
+                    Assertions.fail("Base64Helper test fail");
+                } catch (Base64RuntimeException ex) {
+                    Assertions.assertThat(ex).hasMessage(ExceptionMessageHelper.createWrongBase64StringCharacterMessage(wrongCharacter & 0xFF));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArrayWithWrongBlockCharacterTest() {
+        String[] wrongValues = new String[]{"qszh6BMNMx0p-UUDqszh6A==", "qszh6BMNMx0phUU-qszh6A==", "qszh6BMN\u00c3x0phUUDqszh6A==", "qszh6BMNMx0phUUDqszh6BMNMx0=hUUD"};
+        String[] messages = new String[]{"Wrong character obtained ('-', 45)", "Wrong character obtained ('-', 45)", "Wrong character obtained ('\u00c3', 195)", "Wrong character obtained ('=', 61)"};
+        for (int i = 0; i < wrongValues.length; i++) {
+            try {
+                Base64Helper.toBytes(toArray(wrongValues[i]));
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage(messages[i]);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesFromArrayWithWrongCharacterTest() {
+        String[] wrongValues = new String[]{"qs-h6BMN", "qszh6B!N", "qszh#BMN", "qs=h6BMN", "qszh=BMN", "qszh6=MN", "q=zh6BMN", "qszh6B=N", "qszh6BN=", "qszh6B==", "qszh6A=N", "qszh=A==", "qszh6\u00c3==", "qszh6BMN\u00ff", "\u0080szh6BMN"};
+        String[] messages = new String[]{"Wrong character obtained ('-', 45)", "Wrong character obtained ('!', 33)", "Wrong character obtained ('#', 35)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('N', 78)", "Wrong character obtained ('N', 78)", "Wrong character obtained ('B', 66)", "Wrong character obtained ('N', 78)", "Wrong character obtained ('=', 61)", "Wrong character obtained ('\u00c3', 195)", "Wrong base64 array length (9)", "Wrong character obtained ('\u0080', 128)"};
+        for (int i = 0; i < wrongValues.length; i++) {
+            try {
+                Base64Helper.toBytes(toArray(wrongValues[i]));
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage(messages[i]);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64GroupTest() {
+        Assertions.assertThat(Base64Helper.getBase64Group('q', 's', 'z', 'h')).isEqualTo(0xAACCE1);
+        Assertions.assertThat(Base64Helper.getBase64Group('6', 'B', 'M', 'N')).isEqualTo(0xE8130D);
+        Assertions.assertThat(Base64Helper.getBase64Group('A', 'A', 'A', 'A')).isEqualTo(0);
+        Assertions.assertThat(Base64Helper.getBase64Group('/', '/', '/', '/')).isEqualTo(0xFFFFFF);
+        Assertions.assertThat(Base64Helper.getBase64Group('-', 's', 'z', 'h')).isLessThan(0);
+        Assertions.assertThat(Base64Helper.getBase64Group('q', '=', 'z', 'h')).isLessThan(0);
+        Assertions.assertThat(Base64Helper.getBase64Group('q', 's', 0xFF, 'h')).isLessThan(0);
+        Assertions.assertThat(Base64Helper.getBase64Group('q', 's', 'z', '{')).isLessThan(0);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getLastBase64GroupTest() {
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', 'z', 'h')).isEqualTo(3 << 24 | 0xAACCE1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', 'w', '=')).isEqualTo(2 << 24 | 0xAACC00);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 'g', '=', '=')).isEqualTo(1 << 24 | 0xAA0000);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('-', 's', 'z', 'h')).isEqualTo(-'-' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', '=', 'z', 'h')).isEqualTo(-'=' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', '\u0410', 'h')).isEqualTo(-'\u0410' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', 'z', '{')).isEqualTo(-'{' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', '=', 'h')).isEqualTo(-'h' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', 'z', '=')).isEqualTo(-'z' - 1);
+        Assertions.assertThat(Base64Helper.getLastBase64Group('q', 's', '=', '=')).isEqualTo(-'s' - 1);
+
+        byte[] bytes = new byte[5];
+        Assertions.assertThat(Base64Helper.convertLastBase64Group(3 << 24 | 0xAACCE1, bytes, 1)).isEqualTo(3);
+        Assertions.assertThat(bytes).containsExactlyInOrder(0, -86, -52, -31, 0);
+        Assertions.assertThat(Base64Helper.convertLastBase64Group(1 << 24 | 0x550000, bytes, 0)).isEqualTo(1);
+        Assertions.assertThat(bytes).containsExactlyInOrder(85, -86, -52, -31, 0);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithWrongGroupCharacterTest() {
+        String[] wrongValues = new String[]{"-szh6BMN", "q-zh6BMN", "qs-h6BMN", "qsz-6BMN", "qszh\u0410szh6BMN", "qs\u00e9h6BMN"};
+        String[] messages = new String[]{"Wrong character obtained ('-', 45)", "Wrong character obtained ('-', 45)", "Wrong character obtained ('-', 45)", "Wrong character obtained ('-', 45)", "Wrong character obtained ('\u0410', 1040)", "Wrong character obtained ('\u00e9', 233)"};
+        for (int i = 0; i < wrongValues.length; i++) {
+            try {
+                Base64Helper.toBytes(wrongValues[i]);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage(messages[i]);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void isBase64CharacterValidTest() {
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid(-2)).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid(-1)).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid(0)).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid(1)).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('a')).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('A')).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('z')).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('Z')).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('0')).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64CharacterValid('1')).isTrue();
         Assertions.assertThat(Base64Helper.isBase64CharacterValid('9')).isTrue();
         Assertions.assertThat(Base64Helper.isBase64CharacterValid('+')).isTrue();
         Assertions.assertThat(Base64Helper.isBase64CharacterValid('-')).isFalse();
@@ -1777,7 +2580,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void isBase64StringWithNullStringTest() {
-        Base64Helper.isBase64String(null);
+        Base64Helper.isBase64String((String) null);
     }
 
     /**
@@ -1859,7 +2662,7 @@ public final class Base64HelperTest {
      */
     @Test(expected = NullPointerException.class)
     public void isBase64StringWithBoundsAndNullStringTest() {
-        Base64Helper.isBase64String(null, 0, 4);
+        Base64Helper.isBase64String((String) null, 0, 4);
     }
 
     /**
@@ -1950,4 +2753,730 @@ public final class Base64HelperTest {
         }
     }
 
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void isBase64StringFromArrayTest() {
+        Assertions.assertThat(Base64Helper.isBase64String(toArray(""))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("qszh6BM"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("qszh6BMN"))).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx0phUU="))).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("qszh6A=="))).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("qszh6B=="))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx0phUV="))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx0phU=U"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx-phUUD"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("\u00c3x0phUUD"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx0p\u00ffUUD"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("Mx0phUU\u0080"))).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("??qszh6BMN??"), 2, 8)).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("??qszh6BMN??"), 2, 4)).isTrue();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("??qszh6BMN??"), 1, 4)).isFalse();
+        Assertions.assertThat(Base64Helper.isBase64String(toArray("??qszh6BMN??"), 2, 0)).isFalse();
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void isBase64StringWithBlocksTest() {
+        String[] validValues = new String[]{"qszh6BMNMx0phUUDqszh6A==", "qszh6BMNMx0phUUDqszh6BMN", "AZaz09+/qszh6BMNMx0phUUDqszh6A==", "qszh6BMNMx0phUUDqszh6BMNMx0phUU="};
+        for (String value : validValues) {
+            Assertions.assertThat(Base64Helper.isBase64String(value)).isTrue();
+            Assertions.assertThat(Base64Helper.isBase64String(toArray(value))).isTrue();
+        }
+        String[] wrongValues = new String[]{"qszh6BMNMx0p-UUDqszh6A==", "qszh6BMNMx0phUU-qszh6A==", "qszh6BMN\u00c3x0phUUDqszh6A==", "qszh6BMNMx0phUUDqszh6BMNMx0=hUUD", "qszh6BMNMx0phUUDqs\u0410h6BMNMx0phUUD", "qszh6BMNMx0phUUDqszh6BMN-x0phUU="};
+        for (String value : wrongValues) {
+            Assertions.assertThat(Base64Helper.isBase64String(value)).isFalse();
+            Assertions.assertThat(Base64Helper.isBase64String(toArray(value))).isFalse();
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void isBase64StringFromArrayWithNullArrayTest() {
+        Base64Helper.isBase64String((byte[]) null);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void isBase64StringFromArrayWithWrongBoundsTest() {
+        try {
+            Base64Helper.isBase64String(toArray("qszh6BMN"), -1, 4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (-1)");
+        }
+        try {
+            Base64Helper.isBase64String(toArray("qszh6BMN"), 0, -4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (-4)");
+        }
+        try {
+            Base64Helper.isBase64String(toArray("qszh6BMN"), 5, 4);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (9)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64WithFormatTest() throws Exception {
+        byte[] bytes = new byte[]{(byte) 251, (byte) 255, (byte) 191, (byte) 251, (byte) 255, (byte) 191};
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+
+        Assertions.assertThat(Base64Helper.toBase64(bytes, Base64Format.STANDARD)).isEqualTo("+/+/+/+/");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, Base64Format.URL_SAFE)).isEqualTo("-_-_-_-_");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("-_-_-_-_");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, optionalFormat)).isEqualTo("-_-_-_-_");
+
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 1, 0, Base64Format.URL_SAFE)).isEqualTo("");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 1, 0, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("");
+
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 1, Base64Format.STANDARD)).isEqualTo("+w==");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 1, Base64Format.URL_SAFE)).isEqualTo("-w==");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 1, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("-w");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 1, optionalFormat)).isEqualTo("-w==");
+
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 2, Base64Format.STANDARD)).isEqualTo("+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 2, Base64Format.URL_SAFE)).isEqualTo("-_8=");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 2, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("-_8");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 2, optionalFormat)).isEqualTo("-_8=");
+
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 1, 4, Base64Format.URL_SAFE)).isEqualTo("_7_7_w==");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 1, 4, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("_7_7_w");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 1, 5, Base64Format.URL_SAFE_UNPADDED)).isEqualTo("_7_7_78");
+
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(bytes, Base64Format.URL_SAFE_UNPADDED), ENCODING)).isEqualTo("-_-_-_-_");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(bytes, 1, 4, Base64Format.URL_SAFE_UNPADDED), ENCODING)).isEqualTo("_7_7_w");
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64WithFormatAndWrongBoundsTest() {
+        try {
+            Base64Helper.toBase64(new byte[5], -1, 3, Base64Format.URL_SAFE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64Helper.toBase64Bytes(new byte[5], 3, 3, Base64Format.URL_SAFE_UNPADDED);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (6)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void toBase64WithLinesTest() throws Exception {
+        byte[] bytes = new byte[]{(byte) 251, (byte) 255, (byte) 191, (byte) 251, (byte) 255, (byte) 191, (byte) 251};
+        Base64Format format = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 4, "\n");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 0, format)).isEqualTo("");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 1, format)).isEqualTo("-w");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 3, format)).isEqualTo("-_-_");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 4, format)).isEqualTo("-_-_\n-w");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 6, format)).isEqualTo("-_-_\n-_-_");
+        Assertions.assertThat(Base64Helper.toBase64(bytes, 0, 7, format)).isEqualTo("-_-_\n-_-_\n-w");
+        Assertions.assertThat(new String(Base64Helper.toBase64Bytes(bytes, 1, 5, new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 4, "\r\n")), ENCODING)).isEqualTo("/7/7\r\n/78=");
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64WithLinesAndLargeArrayTest() {
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        Base64Format[] formats = new Base64Format[]{Base64Format.MIME, new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 64, "\n"), new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 7, "")};
+        int[] lengths = new int[]{0, 1, 56, 57, 58, 113, 114, 115, 1000, 1999, 2000};
+        for (Base64Format format : formats) {
+            for (int length : lengths) {
+                String base64 = Base64Helper.toBase64(bytes, 0, length, new Base64Format(format.getAlphabet(), format.getPadding()));
+                StringBuilder expected = new StringBuilder();
+                for (int i = 0; i < base64.length(); i += format.getLineLength()) {
+                    if (i > 0) {
+                        expected.append(format.getLineSeparator());
+                    }
+                    expected.append(base64, i, Math.min(i + format.getLineLength(), base64.length()));
+                }
+                String result = Base64Helper.toBase64(bytes, 0, length, format);
+                Assertions.assertThat(result).isEqualTo(expected.toString());
+                Assertions.assertThat((long) result.length()).isEqualTo(format.getBase64Length(length));
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getBase64StringLengthWithFormatTest() {
+        Assertions.assertThat(Base64Helper.getBase64StringLength(5, Base64Format.URL_SAFE)).isEqualTo(8);
+        Assertions.assertThat(Base64Helper.getBase64StringLength(5, Base64Format.URL_SAFE_UNPADDED)).isEqualTo(7);
+        Assertions.assertThat(Base64Helper.getBase64StringLength(1610612735, Base64Format.URL_SAFE_UNPADDED)).isEqualTo(2147483647);
+        try {
+            Base64Helper.getBase64StringLength(1610612736, Base64Format.URL_SAFE_UNPADDED);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Too large base64 length (2147483648)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBase64AndToBytesWithFormatAndLargeArrayTest() {
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        Base64Format[] formats = new Base64Format[]{Base64Format.STANDARD, Base64Format.URL_SAFE, Base64Format.URL_SAFE_UNPADDED, new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL)};
+        int[] lengths = new int[]{189, 190, 191, 192, 193, 383, 384, 385, 767, 768, 769, 1000, 1536, 1999, 2000};
+        for (Base64Format format : formats) {
+            for (int length : lengths) {
+                for (int offset = 0; offset < 3; offset++) {
+                    String expected = createBase64(bytes, offset, length - offset);
+                    if (format.getAlphabet() == Base64Alphabet.URL_SAFE) {
+                        expected = expected.replace('+', '-').replace('/', '_');
+                    }
+                    if (format.getPadding() == Base64Padding.UNPADDED) {
+                        expected = expected.replace("=", "");
+                    }
+                    String base64 = Base64Helper.toBase64(bytes, offset, length - offset, format);
+                    Assertions.assertThat(base64).isEqualTo(expected);
+
+                    String expectedBytes = Base64Helper.toBase64(bytes, offset, length - offset);
+                    Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("??" + base64, 2, base64.length(), format))).isEqualTo(expectedBytes);
+                    Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("??" + base64), 2, base64.length(), format))).isEqualTo(expectedBytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithFormatTest() {
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("", Base64Format.URL_SAFE))).isEqualTo("");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("", Base64Format.URL_SAFE_UNPADDED))).isEqualTo("");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("", optionalFormat))).isEqualTo("");
+
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("+/+/+w==", Base64Format.STANDARD))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_-_-w==", Base64Format.URL_SAFE))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_-_-w", Base64Format.URL_SAFE_UNPADDED))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_-_-w==", optionalFormat))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_-_-w", optionalFormat))).isEqualTo("+/+/+w==");
+
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_8=", Base64Format.URL_SAFE))).isEqualTo("+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_8", Base64Format.URL_SAFE_UNPADDED))).isEqualTo("+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_8=", optionalFormat))).isEqualTo("+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("-_8", optionalFormat))).isEqualTo("+/8=");
+
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray(""), Base64Format.URL_SAFE))).isEqualTo("");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("+/+/+w=="), Base64Format.STANDARD))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("-_-_-w=="), Base64Format.URL_SAFE))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("-_-_-w"), Base64Format.URL_SAFE_UNPADDED))).isEqualTo("+/+/+w==");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("-_-_-_8"), optionalFormat))).isEqualTo("+/+/+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("-_8"), Base64Format.URL_SAFE_UNPADDED))).isEqualTo("+/8=");
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("-_8="), optionalFormat))).isEqualTo("+/8=");
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithFormatAndWrongBoundsTest() {
+        try {
+            Base64Helper.toBytes("-_-_", -1, 4, Base64Format.URL_SAFE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string index (-1)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("-_-_"), 1, 4, Base64Format.URL_SAFE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (5)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithFormatAndWrongLengthTest() {
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+        try {
+            Base64Helper.toBytes("-_8", Base64Format.URL_SAFE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (3)");
+        }
+        try {
+            Base64Helper.toBytes("-_-_-", Base64Format.URL_SAFE_UNPADDED);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (5)");
+        }
+        try {
+            Base64Helper.toBytes("-w=", optionalFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (3)");
+        }
+        try {
+            Base64Helper.toBytes("=", optionalFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (1)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("-_8"), Base64Format.URL_SAFE);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (3)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("-_-_-"), Base64Format.URL_SAFE_UNPADDED);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (5)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("-w="), optionalFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (3)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("="), optionalFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array length (1)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithFormatAndWrongCharacterTest() {
+        String[] wrongBase64 = new String[]{"+/+/", "-_-/", "-w==", "-=", "-_==-_-_", ",_", "-,", ",_8", "-,8", "-_,", "-x", "-_9", "-_\u0100_"};
+        String[] wrongCharacters = new String[]{"'+', 43", "'/', 47", "'=', 61", "'=', 61", "'=', 61", "',', 44", "',', 44", "',', 44", "',', 44", "',', 44", "'x', 120", "'9', 57", "'\u0100', 256"};
+        for (int i = 0; i < wrongBase64.length; i++) {
+            try {
+                Base64Helper.toBytes(wrongBase64[i], Base64Format.URL_SAFE_UNPADDED);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+        }
+        for (int i = 0; i < wrongBase64.length - 1; i++) {
+            try {
+                Base64Helper.toBytes(toArray(wrongBase64[i]), Base64Format.URL_SAFE_UNPADDED);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+        }
+        try {
+            Base64Helper.toBytes("-_-_", Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+        }
+        try {
+            Base64Helper.toBytes(toArray("+/+/-_-_"), Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void tryToBytesWithByteArrayTest() {
+        byte[] bytes = new byte[6];
+        long status = Base64Helper.tryToBytes("AAECAw==", bytes, Base64Format.STANDARD);
+        Assertions.assertThat(status).isEqualTo(4L);
+        Assertions.assertThat(bytes).containsExactlyInOrder(0, 1, 2, 3, 0, 0);
+        status = Base64Helper.tryToBytes(toArray("-_8"), bytes, Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(status).isEqualTo(2L);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-5, -1, 2, 3, 0, 0);
+        status = Base64Helper.tryToBytes("..AAECAw==..", 2, 8, bytes, 2, Base64Format.STANDARD);
+        Assertions.assertThat(status).isEqualTo(4L);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-5, -1, 0, 1, 2, 3);
+        status = Base64Helper.tryToBytes(toArray("..AAECAw==.."), 2, 8, bytes, 1, Base64Format.STANDARD);
+        Assertions.assertThat(status).isEqualTo(4L);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-5, 0, 1, 2, 3, 3);
+        Assertions.assertThat(Base64Helper.tryToBytes("", bytes, Base64Format.STANDARD)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.tryToBytes(new byte[0], bytes, Base64Format.STANDARD)).isEqualTo(0L);
+        Assertions.assertThat(Base64Helper.tryToBytes("A A E C A w = =", bytes, Base64Format.MIME)).isEqualTo(4L);
+        Assertions.assertThat(Base64Helper.tryToBytes(toArray("A A E C A w = ="), bytes, Base64Format.MIME)).isEqualTo(4L);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void tryToBytesWithByteArrayErrorTest() {
+        Base64Format lenientFormat = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.OPTIONAL, Base64Leniency.SKIP_WHITESPACE);
+        byte[] bytes = new byte[6];
+        String[] base64 = new String[]{"AAECA", "AAECAw=", ".AECAw==", "AAE.Aw==", "AAECA.==", "AAECAx==", "AAECAwB=", "AAECAwAA", "AAECAw==", "A\nAE.AAA", "AAAA .AA", "AAAA AA.", "AAAA Ax", "AAAA AAB", "AAAAAA======"};
+        Base64Format[] formats = new Base64Format[]{Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, Base64Format.STANDARD, lenientFormat, lenientFormat, lenientFormat, lenientFormat, lenientFormat, lenientFormat};
+        int[] bytesOffsets = new int[]{0, 0, 0, 0, 0, 0, 0, 1, 3, 0, 0, 0, 0, 0, 0};
+        Base64DecodeError[] errors = new Base64DecodeError[]{Base64DecodeError.WRONG_LENGTH, Base64DecodeError.WRONG_LENGTH, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.BYTE_ARRAY_OVERFLOW, Base64DecodeError.BYTE_ARRAY_OVERFLOW, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER, Base64DecodeError.WRONG_CHARACTER};
+        int[] errorIndices = new int[]{5, 7, 0, 3, 5, 5, 6, 8, 8, 4, 5, 7, 6, 7, 8};
+        long status;
+        for (int i = 0; i < base64.length; i++) {
+            status = Base64Helper.tryToBytes(base64[i], 0, base64[i].length(), bytes, bytesOffsets[i], formats[i]);
+            Assertions.assertThat(status).isLessThan(0L);
+            Assertions.assertThat(Base64Helper.getDecodeError(status)).isSameAs(errors[i]);
+            Assertions.assertThat(Base64Helper.getDecodeErrorIndex(status)).isEqualTo(errorIndices[i]);
+            status = Base64Helper.tryToBytes(toArray(base64[i]), 0, base64[i].length(), bytes, bytesOffsets[i], formats[i]);
+            Assertions.assertThat(status).isLessThan(0L);
+            Assertions.assertThat(Base64Helper.getDecodeError(status)).isSameAs(errors[i]);
+            Assertions.assertThat(Base64Helper.getDecodeErrorIndex(status)).isEqualTo(errorIndices[i]);
+        }
+
+        status = Base64Helper.tryToBytes("..AAE.Aw==", 2, 8, bytes, 0, Base64Format.STANDARD);
+        Assertions.assertThat(Base64Helper.getDecodeError(status)).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+        Assertions.assertThat(Base64Helper.getDecodeErrorIndex(status)).isEqualTo(5);
+        status = Base64Helper.tryToBytes("..AAECAw", 2, 5, bytes, 0, Base64Format.STANDARD);
+        Assertions.assertThat(Base64Helper.getDecodeError(status)).isSameAs(Base64DecodeError.WRONG_LENGTH);
+        Assertions.assertThat(Base64Helper.getDecodeErrorIndex(status)).isEqualTo(7);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void tryToBytesWithByteArrayWrongArgumentsTest() {
+        try {
+            Base64Helper.tryToBytes("AAAA", 0, 4, new byte[3], -1, Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64Helper.tryToBytes(toArray("AAAA"), 0, 4, new byte[3], 4, Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (4)");
+        }
+        try {
+            Base64Helper.tryToBytes("AAAA", 1, 4, new byte[3], 0, Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string index (5)");
+        }
+        try {
+            Base64Helper.tryToBytes(toArray("AAAA"), 1, 4, new byte[3], 0, Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 array index (5)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void tryToBytesWithResultTest() {
+        Base64DecodeResult result = new Base64DecodeResult();
+        Assertions.assertThat(Base64Helper.tryToBytes("AAECAw==", Base64Format.STANDARD, result)).isTrue();
+        Assertions.assertThat(result.getBytes()).containsExactlyInOrder(0, 1, 2, 3);
+        Assertions.assertThat(Base64Helper.tryToBytes(toArray("-_8"), Base64Format.URL_SAFE_UNPADDED, result)).isTrue();
+        Assertions.assertThat(result.getBytes()).containsExactlyInOrder(-5, -1);
+        Assertions.assertThat(Base64Helper.tryToBytes("..AAECAw==..", 2, 8, Base64Format.STANDARD, result)).isTrue();
+        Assertions.assertThat(result.getBytes()).containsExactlyInOrder(0, 1, 2, 3);
+        Assertions.assertThat(Base64Helper.tryToBytes(toArray("A A E C\r\nA w = ="), Base64Format.MIME, result)).isTrue();
+        Assertions.assertThat(result.getBytes()).containsExactlyInOrder(0, 1, 2, 3);
+
+        Assertions.assertThat(Base64Helper.tryToBytes("AAECA", Base64Format.STANDARD, result)).isFalse();
+        Assertions.assertThat(result.getBytes()).isNull();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_LENGTH);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(5);
+        Assertions.assertThat(Base64Helper.tryToBytes(toArray("..AAECA"), 2, 5, Base64Format.STANDARD, result)).isFalse();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_LENGTH);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(7);
+        Assertions.assertThat(Base64Helper.tryToBytes("AAEC-Aw=", Base64Format.MIXED, result)).isTrue();
+        Assertions.assertThat(Base64Helper.tryToBytes("AAEC.Aw=", Base64Format.MIXED, result)).isFalse();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(4);
+        Assertions.assertThat(Base64Helper.tryToBytes(toArray("AAEC\u0080Aw="), Base64Format.MIXED, result)).isFalse();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(4);
+        Assertions.assertThat(Base64Helper.tryToBytes("AAEC\u0100Aw=", Base64Format.MIXED, result)).isFalse();
+        Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+        Assertions.assertThat(result.getErrorIndex()).isEqualTo(4);
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void tryToBytesLenientWithResultErrorTest() {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        String[] base64 = new String[]{"AAEC A.w==", "AA EC.Aw==", "AA EC Ax==", "AAEC\r\nAw\u0080==", "AA\r\nEC\r\nAwF="};
+        Base64Format[] formats = new Base64Format[]{whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, Base64Format.MIME};
+        int[] errorIndices = new int[]{6, 5, 7, 8, 10};
+        Base64DecodeResult result = new Base64DecodeResult();
+        for (int i = 0; i < base64.length; i++) {
+            Assertions.assertThat(Base64Helper.tryToBytes(base64[i], formats[i], result)).isFalse();
+            Assertions.assertThat(result.getBytes()).isNull();
+            Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+            Assertions.assertThat(result.getErrorIndex()).isEqualTo(errorIndices[i]);
+            Assertions.assertThat(Base64Helper.tryToBytes(toArray(base64[i]), formats[i], result)).isFalse();
+            Assertions.assertThat(result.getBytes()).isNull();
+            Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+            Assertions.assertThat(result.getErrorIndex()).isEqualTo(errorIndices[i]);
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void getDecodeErrorTest() {
+        Assertions.assertThat(Base64Helper.getDecodeError(0L)).isNull();
+        Assertions.assertThat(Base64Helper.getDecodeError(Integer.MAX_VALUE)).isNull();
+        Assertions.assertThat(Base64Helper.getDecodeErrorIndex(0L)).isEqualTo(-1);
+        Assertions.assertThat(Base64Helper.getDecodeErrorIndex(Integer.MAX_VALUE)).isEqualTo(-1);
+        for (Base64DecodeError error : Base64DecodeError.values()) {
+            for (int index : new int[]{0, 1, 2, 3, 4, 5, 1000, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}) {
+                long status = Base64Helper.createDecodeErrorStatus(error, index);
+                Assertions.assertThat(status).isLessThan(0L);
+                Assertions.assertThat(Base64Helper.getDecodeError(status)).isSameAs(error);
+                Assertions.assertThat(Base64Helper.getDecodeErrorIndex(status)).isEqualTo(index);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesWithMixedAlphabetTest() {
+        String[] base64 = new String[]{"+/+/+w==", "-_-_-w==", "-_+/-w", "+_-/+/8=", "+_-/+/8"};
+        String[] expected = new String[]{"+/+/+w==", "+/+/+w==", "+/+/+w==", "+/+/+/8=", "+/+/+/8="};
+        for (int i = 0; i < base64.length; i++) {
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(base64[i], Base64Format.MIXED))).isEqualTo(expected[i]);
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray(base64[i]), Base64Format.MIXED))).isEqualTo(expected[i]);
+        }
+
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        String standardBase64 = Base64Helper.toBase64(bytes);
+        Assertions.assertThat(Base64Helper.toBase64(bytes, Base64Format.MIXED)).isEqualTo(standardBase64);
+        String urlSafeBase64 = Base64Helper.toBase64(bytes, Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(urlSafeBase64, Base64Format.MIXED))).isEqualTo(standardBase64);
+        Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray(urlSafeBase64), Base64Format.MIXED))).isEqualTo(standardBase64);
+
+        try {
+            Base64Helper.toBytes("+/-_");
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+        }
+        try {
+            Base64Helper.toBytes("+/-_", Base64Format.STANDARD);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+        }
+        try {
+            Base64Helper.toBytes("+/-.", Base64Format.MIXED);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesLenientTest() {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format unpaddedFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_NON_ALPHABET);
+        Base64Format[] formats = new Base64Format[]{whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, optionalFormat, optionalFormat, optionalFormat, unpaddedFormat, unpaddedFormat, Base64Format.MIME, Base64Format.MIME};
+        String[] base64 = new String[]{"", " \r\n", "-_-_-w==", " -_\t-_ \r\n-w = = \n", "-_-_\r\n-_8=\r\n", "-_-_-w", "-_-_-w\n=\n=", "\n-_-_-_8\n", "-_-_-w==", "-_.-_.-_.8.=", "+/+/\r\n+w==", "+/+/:+/8=:"};
+        String[] expected = new String[]{"", "", "+/+/+w==", "+/+/+w==", "+/+/+/8=", "+/+/+w==", "+/+/+w==", "+/+/+/8=", "+/+/+w==", "+/+/+/8=", "+/+/+w==", "+/+/+/8="};
+        for (int i = 0; i < base64.length; i++) {
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(base64[i], formats[i]))).isEqualTo(expected[i]);
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray(base64[i]), formats[i]))).isEqualTo(expected[i]);
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes("??" + base64[i] + "??", 2, base64[i].length(), formats[i]))).isEqualTo(expected[i]);
+            Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray("??" + base64[i] + "??"), 2, base64[i].length(), formats[i]))).isEqualTo(expected[i]);
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesLenientWithLargeArrayTest() {
+        byte[] bytes = new byte[2000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 97 + i / 11);
+        }
+        Base64Format lenientFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 30, " \t", Base64Leniency.SKIP_WHITESPACE);
+        Base64Format[] formats = new Base64Format[]{Base64Format.MIME, lenientFormat};
+        int[] lengths = new int[]{0, 1, 56, 57, 58, 113, 114, 115, 1000, 1999, 2000};
+        for (Base64Format format : formats) {
+            for (int length : lengths) {
+                String expected = Base64Helper.toBase64(bytes, 0, length);
+                String base64 = Base64Helper.toBase64(bytes, 0, length, format);
+                Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(base64, format))).isEqualTo(expected);
+                Assertions.assertThat(Base64Helper.toBase64(Base64Helper.toBytes(toArray(base64), format))).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesLenientWithWrongLengthTest() {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format unpaddedFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_NON_ALPHABET);
+        Base64Format[] formats = new Base64Format[]{whitespaceFormat, whitespaceFormat, optionalFormat, optionalFormat, unpaddedFormat};
+        String[] base64 = new String[]{"-_\n8", "-_-_\n-", "-w\n=", "-_-_-", "-_-_-=="};
+        for (int i = 0; i < base64.length; i++) {
+            try {
+                Base64Helper.toBytes(base64[i], formats[i]);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong base64 string length (" + base64[i].length() + ")");
+            }
+            try {
+                Base64Helper.toBytes(toArray(base64[i]), formats[i]);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong base64 array length (" + base64[i].length() + ")");
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Helper} class test.
+     */
+    @Test
+    public void toBytesLenientWithWrongCharacterTest() {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format unpaddedFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format[] formats = new Base64Format[]{whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, whitespaceFormat, unpaddedFormat, Base64Format.MIME};
+        String[] base64 = new String[]{"-_ -_ +/+/", "-_-_ -_.8=", "-_-_\n-w==.", "-_==\n-_-_", "-_-_\n====", "-_-_\n-w==\n==\n==", "-_-_\n-x==", "-_-_\n-_9=", "-_-_ -_8=", "+/+/\n+/8=\n=\n=\n=\n="};
+        String[] wrongCharacters = new String[]{"'+', 43", "'.', 46", "'.', 46", "'=', 61", "'=', 61", "'=', 61", "'x', 120", "'9', 57", "'=', 61", "'=', 61"};
+        for (int i = 0; i < base64.length; i++) {
+            try {
+                Base64Helper.toBytes(base64[i], formats[i]);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+            try {
+                Base64Helper.toBytes(toArray(base64[i]), formats[i]);
+                Assertions.fail("Base64Helper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+        }
+        try {
+            Base64Helper.toBytes("-_-_ \u0100", whitespaceFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('\u0100', 256)");
+        }
+        try {
+            Base64Helper.toBytes(" -_\u0100_-_-_=", whitespaceFormat);
+            Assertions.fail("Base64Helper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('\u0100', 256)");
+        }
+    }
+
+    private static byte[] toArray(final String base64) {
+        byte[] result = new byte[base64.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) base64.charAt(i);
+        }
+        return result;
+    }
+
+    private static ByteBuffer[] createBuffers(final byte[] content) {
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(content.length);
+        directBuffer.put(content);
+        directBuffer.clear();
+        return new ByteBuffer[]{ByteBuffer.wrap(content.clone()), directBuffer, ByteBuffer.wrap(content.clone()).asReadOnlyBuffer()};
+    }
+
+    private static byte[] getBufferContent(final ByteBuffer buffer, final int offset, final int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = buffer.get(offset + i);
+        }
+        return result;
+    }
+
+    private static String createBase64(final byte[] bytes, final int offset, final int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i += 3) {
+            int byte1 = bytes[offset + i] & 0xFF;
+            int byte2 = 0;
+            int byte3 = 0;
+            if (i + 1 < length) {
+                byte2 = bytes[offset + i + 1] & 0xFF;
+            }
+            if (i + 2 < length) {
+                byte3 = bytes[offset + i + 2] & 0xFF;
+            }
+            int group = byte1 << 16 | byte2 << 8 | byte3;
+            builder.append((char) Consts.TO_BASE64[group >> 18 & 0x3F]);
+            builder.append((char) Consts.TO_BASE64[group >> 12 & 0x3F]);
+            if (i + 1 < length) {
+                builder.append((char) Consts.TO_BASE64[group >> 6 & 0x3F]);
+            } else {
+                builder.append((char) Consts.PAD);
+            }
+            if (i + 2 < length) {
+                builder.append((char) Consts.TO_BASE64[group & 0x3F]);
+            } else {
+                builder.append((char) Consts.PAD);
+            }
+        }
+        return builder.toString();
+    }
+
 }
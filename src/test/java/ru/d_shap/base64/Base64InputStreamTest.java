@@ -19,8 +19,12 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.base64;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -2191,6 +2195,34 @@ public final class Base64InputStreamTest {
         Assertions.assertThat(base64InputStream2).isCompleted();
     }
 
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void availableHugeStreamTest() throws Exception {
+        Base64InputStream base64InputStream = new Base64InputStream(new HugeInputStream('A'));
+        Assertions.assertThat(base64InputStream.available()).isEqualTo(1610612733);
+        Assertions.assertThat(base64InputStream.read()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream.available()).isEqualTo(1610618876);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipHugeCountTest() throws Exception {
+        Base64InputStream base64InputStream = new Base64InputStream(new HugeInputStream('A'));
+        Assertions.assertThat(base64InputStream.read()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream.skip(4294967298L)).isEqualTo(4294967298L);
+        Assertions.assertThat(base64InputStream.read()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream.skip(4294967297L)).isEqualTo(4294967297L);
+        Assertions.assertThat(base64InputStream.read()).isEqualTo(0);
+    }
+
     /**
      * {@link Base64InputStream} class test.
      *
@@ -2227,6 +2259,346 @@ public final class Base64InputStreamTest {
         }
     }
 
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithBoundsTest() throws Exception {
+        byte[] bytes1 = new byte[8];
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("/MpxS8RB"));
+        Assertions.assertThat(base64InputStream1.read(bytes1, 1, 6)).isEqualTo(6);
+        Assertions.assertThat(bytes1).containsExactlyInOrder(0, -4, -54, 113, 75, -60, 65, 0);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 1, 6)).isEqualTo(-1);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 1, 6)).isEqualTo(-1);
+
+        byte[] bytes2 = new byte[8];
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("/MpxS8RB"));
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 4)).isEqualTo(4);
+        Assertions.assertThat(bytes2).containsExactlyInOrder(-4, -54, 113, 75, 0, 0, 0, 0);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 1)).isEqualTo(1);
+        Assertions.assertThat(bytes2).containsExactlyInOrder(-60, -54, 113, 75, 0, 0, 0, 0);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 8)).isEqualTo(1);
+        Assertions.assertThat(bytes2).containsExactlyInOrder(65, -54, 113, 75, 0, 0, 0, 0);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 8)).isEqualTo(-1);
+
+        byte[] bytes3 = new byte[8];
+        Base64InputStream base64InputStream3 = new Base64InputStream(createInputStream("/MpxS8RB"));
+        Assertions.assertThat(base64InputStream3.read(bytes3, 0, 2)).isEqualTo(2);
+        Assertions.assertThat(bytes3).containsExactlyInOrder(-4, -54, 0, 0, 0, 0, 0, 0);
+        Assertions.assertThat(base64InputStream3.read(bytes3, 2, 0)).isEqualTo(0);
+        Assertions.assertThat(base64InputStream3).isNextBytesEqualTo(113);
+        Assertions.assertThat(base64InputStream3.read(bytes3, 2, 5)).isEqualTo(3);
+        Assertions.assertThat(bytes3).containsExactlyInOrder(-4, -54, 75, -60, 65, 0, 0, 0);
+        Assertions.assertThat(base64InputStream3).isCompleted();
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithBoundsPadTest() throws Exception {
+        byte[] bytes1 = new byte[12];
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("8HgPESA=sA==HsHJ"));
+        Assertions.assertThat(base64InputStream1.read(bytes1, 0, 12)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 3, 9)).isEqualTo(2);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 5, 7)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 6, 6)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.read(bytes1, 9, 3)).isEqualTo(-1);
+        Assertions.assertThat(bytes1).containsExactlyInOrder(-16, 120, 15, 17, 32, -80, 30, -63, -55, 0, 0, 0);
+
+        byte[] bytes2 = new byte[4];
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("8HgPESA="));
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 1)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 1, 1)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 2, 2)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 3, 1)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 1)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.read(bytes2, 0, 1)).isEqualTo(-1);
+        Assertions.assertThat(bytes2).containsExactlyInOrder(32, 120, 15, 17);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLargeArrayTest() throws Exception {
+        byte[] bytes = new byte[100000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        byte[] base64Bytes = Base64Helper.toBase64(bytes).getBytes(ENCODING);
+        int[] chunkSizes = new int[]{1, 2, 3, 4, 5, 7, 8192, 8193, 100000};
+        for (int chunkSize : chunkSizes) {
+            Base64InputStream base64InputStream = new Base64InputStream(new ByteArrayInputStream(base64Bytes));
+            Assertions.assertThat(readAll(base64InputStream, chunkSize)).containsExactlyInOrder(bytes);
+        }
+        Base64InputStream base64InputStream = new Base64InputStream(new PartialInputStream(base64Bytes, 1000));
+        Assertions.assertThat(readAll(base64InputStream, 8192)).containsExactlyInOrder(bytes);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithCharacterBufferSizeTest() throws Exception {
+        byte[] bytes = new byte[10000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        byte[] base64Bytes = Base64Helper.toBase64(bytes, 0, bytes.length - 1).getBytes(ENCODING);
+        byte[] expectedBytes = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, expectedBytes, 0, expectedBytes.length);
+        for (int characterBufferSize = 4; characterBufferSize < 10; characterBufferSize++) {
+            Base64InputStream base64InputStream1 = new Base64InputStream(new ByteArrayInputStream(base64Bytes), characterBufferSize);
+            Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream1, 7))).isEqualTo(Base64Helper.toBase64(expectedBytes));
+
+            Base64InputStream base64InputStream2 = new Base64InputStream(new ByteArrayInputStream(base64Bytes), characterBufferSize);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int read;
+            while (true) {
+                read = base64InputStream2.read();
+                if (read < 0) {
+                    break;
+                }
+                baos.write(read);
+            }
+            Assertions.assertThat(Base64Helper.toBase64(baos.toByteArray())).isEqualTo(Base64Helper.toBase64(expectedBytes));
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readByteReadCountTest() throws Exception {
+        ReadCountInputStream readCountInputStream = new ReadCountInputStream("/MpxS8RB+/12MT+6pw==".getBytes(ENCODING));
+        Base64InputStream base64InputStream = new Base64InputStream(readCountInputStream, 8);
+        Assertions.assertThat(base64InputStream).isNextBytesEqualTo(-4, -54, 113);
+        Assertions.assertThat(readCountInputStream.getReadCount()).isEqualTo(1);
+        Assertions.assertThat(base64InputStream).isNextBytesEqualTo(75, -60, 65);
+        Assertions.assertThat(readCountInputStream.getReadCount()).isEqualTo(1);
+        Assertions.assertThat(base64InputStream).isNextBytesEqualTo(-5, -3, 118, 49, 63, -70, -89);
+        Assertions.assertThat(readCountInputStream.getReadCount()).isEqualTo(3);
+        Assertions.assertThat(base64InputStream).isCompleted();
+        Assertions.assertThat(readCountInputStream.getReadCount()).isEqualTo(4);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     */
+    @Test
+    public void wrongCharacterBufferSizeTest() {
+        try {
+            new Base64InputStream(new ByteArrayInputStream(new byte[0]), 3);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (3)");
+        }
+        try {
+            new Base64InputStream(new ByteArrayInputStream(new byte[0]), -1);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (-1)");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readPartialInputStreamTest() throws Exception {
+        byte[] bytes = new byte[9];
+        Base64InputStream base64InputStream1 = new Base64InputStream(new PartialInputStream("/MpxS8RB+/12".getBytes(ENCODING), 5));
+        Assertions.assertThat(base64InputStream1.read(bytes, 0, 9)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.read(bytes, 3, 6)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.read(bytes, 6, 3)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.read(bytes, 0, 9)).isEqualTo(-1);
+        Assertions.assertThat(bytes).containsExactlyInOrder(-4, -54, 113, 75, -60, 65, -5, -3, 118);
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(new PartialInputStream("/MpxS8RB+/12".getBytes(ENCODING), 1));
+        Assertions.assertThat(base64InputStream2.read(bytes, 0, 9)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream2.read(bytes, 0, 9)).isEqualTo(3);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithBoundsWrongCharacterTest() throws Exception {
+        byte[] bytes = new byte[9];
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("1234+?++1234"));
+        Assertions.assertThat(base64InputStream1.read(bytes, 0, 9)).isEqualTo(3);
+        try {
+            base64InputStream1.read(bytes, 0, 9);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('?', 63)");
+        }
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("1234+++?1234"));
+        Assertions.assertThat(base64InputStream2.read(bytes, 0, 4)).isEqualTo(3);
+        try {
+            base64InputStream2.read(bytes, 0, 1);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('?', 63)");
+        }
+
+        Base64InputStream base64InputStream3 = new Base64InputStream(createInputStream("1234?+++1234"));
+        Assertions.assertThat(base64InputStream3.read(bytes, 0, 9)).isEqualTo(3);
+        try {
+            base64InputStream3.read(bytes, 0, 9);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('?', 63)");
+        }
+
+        Base64InputStream base64InputStream4 = new Base64InputStream(createInputStream("1234++?+1234"));
+        Assertions.assertThat(base64InputStream4.read(bytes, 0, 9)).isEqualTo(3);
+        try {
+            base64InputStream4.read(bytes, 0, 9);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('?', 63)");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithBoundsEndOfStreamTest() throws Exception {
+        byte[] bytes = new byte[9];
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("12345"));
+        Assertions.assertThat(base64InputStream1.read(bytes, 0, 9)).isEqualTo(3);
+        try {
+            base64InputStream1.read(bytes, 0, 9);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("123"));
+        try {
+            base64InputStream2.read(bytes, 0, 9);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void readWithBoundsNullByteArrayTest() throws Exception {
+        Base64InputStream base64InputStream = new Base64InputStream(createInputStream("/MpxS8RB"));
+        base64InputStream.read(null, 0, 0);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithWrongBoundsTest() throws Exception {
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("/MpxS8RB"));
+            base64InputStream.read(new byte[3], -1, 2);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("/MpxS8RB"));
+            base64InputStream.read(new byte[3], 1, -1);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("/MpxS8RB"));
+            base64InputStream.read(new byte[3], 1, 3);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipAndAvailableWithBufferedCharactersTest() throws Exception {
+        String base64String = "ABMN+/12tY4/vbQ7";
+
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream(base64String));
+        Assertions.assertThat(base64InputStream1.read(new byte[2], 0, 2)).isEqualTo(2);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(10);
+        Assertions.assertThat(base64InputStream1.skip(4)).isEqualTo(4);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(6);
+        Assertions.assertThat(base64InputStream1).isNextBytesEqualTo(-75, -114, 63);
+        Assertions.assertThat(base64InputStream1.skip(3)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream1).isCompleted();
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(new PartialInputStream(base64String.getBytes(ENCODING), 5));
+        Assertions.assertThat(base64InputStream2.read(new byte[1], 0, 1)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream2.skip(8)).isEqualTo(8);
+        Assertions.assertThat(base64InputStream2).isAllBytesEqualTo(-67, -76, 59);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipWithShortSkipTest() throws Exception {
+        String base64String = "ABMN+/12tY4/vbQ7";
+
+        Base64InputStream base64InputStream1 = new Base64InputStream(new ShortSkipInputStream(base64String.getBytes(ENCODING), 3));
+        Assertions.assertThat(base64InputStream1.skip(6)).isEqualTo(6);
+        Assertions.assertThat(base64InputStream1).isAllBytesEqualTo(-75, -114, 63, -67, -76, 59);
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(new ShortSkipInputStream(base64String.getBytes(ENCODING), 5));
+        Assertions.assertThat(base64InputStream2.skip(9)).isEqualTo(9);
+        Assertions.assertThat(base64InputStream2).isAllBytesEqualTo(-67, -76, 59);
+
+        Base64InputStream base64InputStream3 = new Base64InputStream(new ShortSkipInputStream(base64String.getBytes(ENCODING), 0));
+        Assertions.assertThat(base64InputStream3.skip(6)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream3).isAllBytesEqualTo(-5, -3, 118, -75, -114, 63, -67, -76, 59);
+
+        Base64InputStream base64InputStream4 = new Base64InputStream(new ShortSkipInputStream("ABMN+/12tY4/vQ==".getBytes(ENCODING), 3));
+        Assertions.assertThat(base64InputStream4.skip(20)).isEqualTo(6);
+        Assertions.assertThat(base64InputStream4).isAllBytesEqualTo(-75, -114, 63, -67);
+
+        Base64InputStream base64InputStream5 = new Base64InputStream(new ShortSkipInputStream("ABM.+/12tY4/vbQ7".getBytes(ENCODING), 3));
+        Assertions.assertThat(base64InputStream5.skip(6)).isEqualTo(6);
+        Assertions.assertThat(base64InputStream5).isAllBytesEqualTo(-75, -114, 63, -67, -76, 59);
+    }
+
     /**
      * {@link Base64InputStream} class test.
      *
@@ -2284,6 +2656,403 @@ public final class Base64InputStreamTest {
         Assertions.assertThat(inputStream).isCompleted();
     }
 
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithFormatTest() throws Exception {
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+
+        Assertions.assertThat(new Base64InputStream(createInputStream("+/+/+w=="), Base64Format.STANDARD)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-w=="), Base64Format.URL_SAFE)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-w"), Base64Format.URL_SAFE_UNPADDED)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-w=="), optionalFormat)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-w"), optionalFormat)).isAllBytesEqualTo(-5, -1, -65, -5);
+
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-_8="), Base64Format.URL_SAFE)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-_8"), Base64Format.URL_SAFE_UNPADDED)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-_8="), optionalFormat)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_-_8"), optionalFormat)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+
+        Assertions.assertThat(new Base64InputStream(createInputStream(""), Base64Format.URL_SAFE_UNPADDED)).isCompleted();
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithFormatAndBoundsTest() throws Exception {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        for (int length = 990; length <= bytes.length; length++) {
+            byte[] expected = new byte[length];
+            System.arraycopy(bytes, 0, expected, 0, length);
+            String base64 = Base64Helper.toBase64(expected, Base64Format.URL_SAFE_UNPADDED);
+
+            Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream(base64), 16, Base64Format.URL_SAFE_UNPADDED);
+            Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream1, 7))).isEqualTo(Base64Helper.toBase64(expected));
+
+            Base64InputStream base64InputStream2 = new Base64InputStream(new PartialInputStream(base64.getBytes(ENCODING), 5), Base64Format.URL_SAFE_UNPADDED);
+            Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream2, 100))).isEqualTo(Base64Helper.toBase64(expected));
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithFormatAndWrongCharacterTest() throws Exception {
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+        Base64Format[] formats = new Base64Format[]{Base64Format.URL_SAFE, Base64Format.URL_SAFE_UNPADDED, Base64Format.URL_SAFE_UNPADDED, optionalFormat, optionalFormat, optionalFormat, optionalFormat, optionalFormat};
+        String[] wrongBase64 = new String[]{"-_+/", "-w==", "-_8=", "-w=_", "-x", "-_9", "-x==", "-_9="};
+        String[] wrongCharacters = new String[]{"'+', 43", "'=', 61", "'=', 61", "'_', 95", "'x', 120", "'9', 57", "'x', 120", "'9', 57"};
+        for (int i = 0; i < wrongBase64.length; i++) {
+            try {
+                Base64InputStream base64InputStream = new Base64InputStream(createInputStream(wrongBase64[i]), formats[i]);
+                base64InputStream.read();
+                Assertions.fail("Base64InputStream test fail");
+            } catch (IOException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithFormatAndEndOfStreamTest() throws Exception {
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+        Base64Format[] formats = new Base64Format[]{Base64Format.URL_SAFE, Base64Format.URL_SAFE, Base64Format.URL_SAFE_UNPADDED, optionalFormat};
+        String[] wrongBase64 = new String[]{"-w", "-_8", "-", "-w="};
+        for (int i = 0; i < wrongBase64.length; i++) {
+            try {
+                Base64InputStream base64InputStream = new Base64InputStream(createInputStream(wrongBase64[i]), formats[i]);
+                base64InputStream.read();
+                Assertions.fail("Base64InputStream test fail");
+            } catch (IOException ex) {
+                Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+            }
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipWithFormatTest() throws Exception {
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("-_-_-_8"), Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(base64InputStream1.skip(10)).isEqualTo(5);
+        Assertions.assertThat(base64InputStream1).isCompleted();
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("-_-_-w"), Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(base64InputStream2.skip(10)).isEqualTo(4);
+        Assertions.assertThat(base64InputStream2).isCompleted();
+
+        Base64InputStream base64InputStream3 = new Base64InputStream(createInputStream("-_-_-w"), Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(base64InputStream3.skip(3)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream3).isAllBytesEqualTo(-5);
+
+        Base64InputStream base64InputStream4 = new Base64InputStream(createInputStream("-_-_-_-_"), Base64Format.URL_SAFE_UNPADDED);
+        Assertions.assertThat(base64InputStream4.skip(10)).isEqualTo(6);
+        Assertions.assertThat(base64InputStream4).isCompleted();
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithMixedAlphabetTest() throws Exception {
+        Assertions.assertThat(new Base64InputStream(createInputStream("+/-_+w=="), Base64Format.MIXED)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_+/-_8"), Base64Format.MIXED)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("+/-_"));
+            base64InputStream.read();
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLenientTest() throws Exception {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format unpaddedFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_NON_ALPHABET);
+
+        Assertions.assertThat(new Base64InputStream(createInputStream(" \r\n"), whitespaceFormat)).isCompleted();
+        Assertions.assertThat(new Base64InputStream(createInputStream(" -_\t-_ \r\n-w = = \n"), whitespaceFormat)).isAllBytesEqualTo(-5, -1, -65, -5);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_-_\r\n-_8=\r\n"), whitespaceFormat)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        Assertions.assertThat(new Base64InputStream(createInputStream("-_.-_.-_.8.="), unpaddedFormat)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+        Assertions.assertThat(new Base64InputStream(createInputStream("+/+/:+/8=:"), Base64Format.MIME)).isAllBytesEqualTo(-5, -1, -65, -5, -1);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLenientWithLargeArrayTest() throws Exception {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        Base64Format lenientFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 30, " \t", Base64Leniency.SKIP_WHITESPACE);
+        Base64Format[] formats = new Base64Format[]{Base64Format.MIME, lenientFormat};
+        int[] lengths = new int[]{0, 1, 56, 57, 58, 113, 114, 115, 999, 1000};
+        for (Base64Format format : formats) {
+            for (int length : lengths) {
+                byte[] expected = new byte[length];
+                System.arraycopy(bytes, 0, expected, 0, length);
+                String base64 = Base64Helper.toBase64(expected, format);
+
+                Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream(base64), 16, format);
+                Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream1, 7))).isEqualTo(Base64Helper.toBase64(expected));
+
+                Base64InputStream base64InputStream2 = new Base64InputStream(new PartialInputStream(base64.getBytes(ENCODING), 5), format);
+                Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream2, 100))).isEqualTo(Base64Helper.toBase64(expected));
+
+                Base64InputStream base64InputStream3 = new Base64InputStream(createInputStream(base64), format);
+                Assertions.assertThat(Base64Helper.toBase64(readAll(base64InputStream3, 1))).isEqualTo(Base64Helper.toBase64(expected));
+            }
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLenientWithWrongCharacterTest() throws Exception {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        String[] base64 = new String[]{"-_ -_ +/+/", "-_-_ -_.8=", "-_==\n-_-_", "-_-_\n-x=="};
+        String[] wrongCharacters = new String[]{"'+', 43", "'.', 46", "'_', 95", "'x', 120"};
+        for (int i = 0; i < base64.length; i++) {
+            try {
+                Base64InputStream base64InputStream = new Base64InputStream(createInputStream(base64[i]), whitespaceFormat);
+                readAll(base64InputStream, 10);
+                Assertions.fail("Base64InputStream test fail");
+            } catch (IOException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained (" + wrongCharacters[i] + ")");
+            }
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("-_-_\n-_\n"), whitespaceFormat);
+            readAll(base64InputStream, 10);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipAndAvailableLenientTest() throws Exception {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("-_-_\n-_-_\n-_8="), whitespaceFormat);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream1.read()).isEqualTo(251);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(2);
+        Assertions.assertThat(base64InputStream1.skip(4)).isEqualTo(4);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(1);
+        Assertions.assertThat(base64InputStream1.skip(10)).isEqualTo(3);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(0);
+        Assertions.assertThat(base64InputStream1.skip(-1)).isEqualTo(-1);
+        Assertions.assertThat(base64InputStream1).isCompleted();
+
+        Base64InputStream base64InputStream2 = new Base64InputStream(createInputStream("+/+/"));
+        Assertions.assertThat(base64InputStream2).isAllBytesEqualTo(-5, -1, -65);
+        Assertions.assertThat(base64InputStream2.available()).isEqualTo(0);
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void charactersAfterPadWithFormatTest() throws Exception {
+        Base64Format whitespaceFormat = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE);
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.STANDARD, Base64Padding.OPTIONAL);
+
+        Assertions.assertThat(new Base64InputStream(createInputStream("xrAlF7U=\r\n"), Base64Format.MIME)).isAllBytesEqualTo(-58, -80, 37, 23, -75);
+        Assertions.assertThat(new Base64InputStream(createInputStream("xrAlF7U= \n"), whitespaceFormat)).isAllBytesEqualTo(-58, -80, 37, 23, -75);
+
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("xrAlF7U=cIly"), Base64Format.MIME);
+            Assertions.assertThat(base64InputStream).isNextBytesEqualTo(-58, -80, 37, 23, -75);
+            base64InputStream.read();
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('c', 99)");
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("xrAlF7U=\r\ncIly"), Base64Format.MIME);
+            readAll(base64InputStream, 12);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('c', 99)");
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("xrAlF7U= cIly"), whitespaceFormat);
+            readAll(base64InputStream, 12);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('c', 99)");
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("qYSyyNY=YEY"), optionalFormat);
+            readAll(base64InputStream, 12);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('Y', 89)");
+        }
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("xrAlFw==="), Base64Format.MIME);
+            readAll(base64InputStream, 12);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('=', 61)");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void skipAndAvailableAfterPadWithFormatTest() throws Exception {
+        Base64InputStream base64InputStream1 = new Base64InputStream(createInputStream("xrAlF7U="), Base64Format.STANDARD);
+        Assertions.assertThat(base64InputStream1).isNextBytesEqualTo(-58, -80, 37, 23);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(1);
+        Assertions.assertThat(base64InputStream1.skip(10)).isEqualTo(1);
+        Assertions.assertThat(base64InputStream1.available()).isEqualTo(0);
+
+        try {
+            Base64InputStream base64InputStream = new Base64InputStream(createInputStream("xrAlF7U=cIly"), Base64Format.STANDARD);
+            Assertions.assertThat(base64InputStream).isNextBytesEqualTo(-58, -80, 37, 23, -75);
+            base64InputStream.skip(10);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('c', 99)");
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWithFormatAgainstHelperTest() throws Exception {
+        Base64Format[] formats = new Base64Format[]{Base64Format.STANDARD, Base64Format.URL_SAFE_UNPADDED, Base64Format.MIXED, Base64Format.MIME, new Base64Format(Base64Alphabet.STANDARD, Base64Padding.OPTIONAL), new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.PADDED, Base64Leniency.SKIP_WHITESPACE), new Base64Format(Base64Alphabet.STANDARD, Base64Padding.OPTIONAL, Base64Leniency.SKIP_WHITESPACE), new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, Base64Leniency.SKIP_NON_ALPHABET)};
+        String insertedCharacters = "=\r\n .+/-_Aw";
+        Random random = new Random(2000);
+        byte[] bytes;
+        String base64;
+        int index;
+        String expected;
+        for (int i = 0; i < 2000; i++) {
+            for (Base64Format format : formats) {
+                bytes = new byte[random.nextInt(10)];
+                random.nextBytes(bytes);
+                base64 = Base64Helper.toBase64(bytes, format);
+                if (random.nextBoolean()) {
+                    bytes = new byte[random.nextInt(4)];
+                    random.nextBytes(bytes);
+                    base64 += Base64Helper.toBase64(bytes, format);
+                }
+                if (random.nextBoolean()) {
+                    index = random.nextInt(base64.length() + 1);
+                    base64 = base64.substring(0, index) + insertedCharacters.charAt(random.nextInt(insertedCharacters.length())) + base64.substring(index);
+                }
+                expected = base64 + Arrays.toString(decodeWithHelper(base64, format));
+                Assertions.assertThat(base64 + Arrays.toString(decodeWithStream(base64, format, 0))).isEqualTo(expected);
+                Assertions.assertThat(base64 + Arrays.toString(decodeWithStream(base64, format, 1 + random.nextInt(10)))).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * {@link Base64InputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void nullFormatTest() throws Exception {
+        try {
+            new Base64InputStream(createInputStream("-_-_"), null);
+            Assertions.fail("Base64InputStream test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    private static byte[] readAll(final InputStream inputStream, final int chunkSize) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int read;
+        while (true) {
+            read = inputStream.read(chunk, 0, chunkSize);
+            if (read < 0) {
+                break;
+            }
+            baos.write(chunk, 0, read);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] decodeWithHelper(final String base64, final Base64Format format) {
+        try {
+            return Base64Helper.toBytes(base64, format);
+        } catch (Base64RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static byte[] decodeWithStream(final String base64, final Base64Format format, final int chunkSize) throws IOException {
+        Base64InputStream base64InputStream = new Base64InputStream(createInputStream(base64), 4, format);
+        try {
+            if (chunkSize > 0) {
+                return readAll(base64InputStream, chunkSize);
+            }
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int read;
+            while ((read = base64InputStream.read()) >= 0) {
+                baos.write(read);
+            }
+            return baos.toByteArray();
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
     private static InputStream createInputStream(final String base64String) throws IOException {
         byte[] base64Bytes = base64String.getBytes(ENCODING);
         return DataHelper.createInputStreamBuilder().setContent(base64Bytes).buildInputStream();
@@ -2294,4 +3063,145 @@ public final class Base64InputStreamTest {
         return DataHelper.createInputStreamBuilder().setContent(base64Bytes).setReadException(readException).buildInputStream();
     }
 
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReadCountInputStream extends InputStream {
+
+        private final ByteArrayInputStream _inputStream;
+
+        private int _readCount;
+
+        ReadCountInputStream(final byte[] bytes) {
+            super();
+            _inputStream = new ByteArrayInputStream(bytes);
+            _readCount = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            _readCount++;
+            return _inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            _readCount++;
+            return _inputStream.read(bytes, offset, length);
+        }
+
+        int getReadCount() {
+            return _readCount;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ShortSkipInputStream extends InputStream {
+
+        private final ByteArrayInputStream _inputStream;
+
+        private long _skipLength;
+
+        ShortSkipInputStream(final byte[] bytes, final long skipLength) {
+            super();
+            _inputStream = new ByteArrayInputStream(bytes);
+            _skipLength = skipLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return _inputStream.read();
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            long skipped = _inputStream.skip(Math.min(count, _skipLength));
+            _skipLength -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return _inputStream.available();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialInputStream extends InputStream {
+
+        private final ByteArrayInputStream _inputStream;
+
+        private final int _maxReadLength;
+
+        PartialInputStream(final byte[] bytes, final int maxReadLength) {
+            super();
+            _inputStream = new ByteArrayInputStream(bytes);
+            _maxReadLength = maxReadLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return _inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            return _inputStream.read(bytes, offset, Math.min(length, _maxReadLength));
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            return _inputStream.skip(count);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return 0;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class HugeInputStream extends InputStream {
+
+        private final int _value;
+
+        HugeInputStream(final int value) {
+            super();
+            _value = value;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return _value;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            return count;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return Integer.MAX_VALUE;
+        }
+
+    }
+
 }
@@ -55,6 +55,7 @@ public final class Base64OutputStreamTest {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
         base64OutputStream.write(new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201});
+        base64OutputStream.flush();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJ");
         base64OutputStream.close();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJ");
@@ -70,6 +71,7 @@ public final class Base64OutputStreamTest {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
         base64OutputStream.write(new byte[]{(byte) 240, 120, 15, 30});
+        base64OutputStream.flush();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgP");
         base64OutputStream.close();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHg==");
@@ -85,6 +87,7 @@ public final class Base64OutputStreamTest {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
         base64OutputStream.write(new byte[]{(byte) 240, 120, 15, 30, (byte) 193});
+        base64OutputStream.flush();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgP");
         base64OutputStream.close();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsE=");
@@ -100,9 +103,239 @@ public final class Base64OutputStreamTest {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
         base64OutputStream.write(new byte[0]);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("");
+        base64OutputStream.close();
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("");
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithBoundsTest() throws Exception {
+        byte[] bytes = new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201, 17, 32, (byte) 176};
+
+        ByteArrayOutputStream baos1 = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream1 = new Base64OutputStream(baos1);
+        base64OutputStream1.write(bytes, 3, 3);
+        base64OutputStream1.flush();
+        Assertions.assertThat(new String(baos1.toByteArray(), ENCODING)).isEqualTo("HsHJ");
+        base64OutputStream1.close();
+        Assertions.assertThat(new String(baos1.toByteArray(), ENCODING)).isEqualTo("HsHJ");
+
+        ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream2 = new Base64OutputStream(baos2);
+        base64OutputStream2.write(bytes, 1, 7);
+        base64OutputStream2.flush();
+        Assertions.assertThat(new String(baos2.toByteArray(), ENCODING)).isEqualTo("eA8ewckR");
+        base64OutputStream2.close();
+        Assertions.assertThat(new String(baos2.toByteArray(), ENCODING)).isEqualTo("eA8ewckRIA==");
+
+        ByteArrayOutputStream baos3 = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream3 = new Base64OutputStream(baos3);
+        base64OutputStream3.write(bytes, 4, 0);
+        base64OutputStream3.flush();
+        Assertions.assertThat(new String(baos3.toByteArray(), ENCODING)).isEqualTo("");
+        base64OutputStream3.close();
+        Assertions.assertThat(new String(baos3.toByteArray(), ENCODING)).isEqualTo("");
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithBoundsPartialGroupTest() throws Exception {
+        byte[] bytes = new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201, 17, 32, (byte) 176};
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
+        base64OutputStream.write(bytes, 0, 1);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("");
+        base64OutputStream.write(bytes, 1, 1);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("");
+        base64OutputStream.write(bytes, 2, 5);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJ");
+        base64OutputStream.write(bytes[7]);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJ");
+        base64OutputStream.write(bytes, 8, 1);
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJESCw");
+        base64OutputStream.close();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJESCw");
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeLargeArrayTest() throws Exception {
+        byte[] bytes = createBytes(100000);
+        for (int i = 0; i < 4; i++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
+            base64OutputStream.write(bytes, i, bytes.length - i * 2);
+            base64OutputStream.close();
+            Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo(Base64Helper.toBase64(bytes, i, bytes.length - i * 2));
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeLargeArrayWriteCountTest() throws Exception {
+        WriteCountStream writeCountStream = new WriteCountStream();
+        Base64OutputStream base64OutputStream = new Base64OutputStream(writeCountStream);
+        base64OutputStream.write(createBytes(3000));
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(0);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(0);
+
+        base64OutputStream.write(createBytes(30000));
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(5);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(40960);
+
+        base64OutputStream.flush();
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(6);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(44000);
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeByteWriteCountTest() throws Exception {
+        WriteCountStream writeCountStream = new WriteCountStream();
+        Base64OutputStream base64OutputStream = new Base64OutputStream(writeCountStream);
+        for (int i = 0; i < 6144; i++) {
+            base64OutputStream.write(i);
+        }
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(1);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(8192);
+
+        base64OutputStream.write(1);
         base64OutputStream.close();
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(2);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(8196);
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeBufferedTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream = new Base64OutputStream(baos);
+        base64OutputStream.write(new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201, 17});
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("");
+        base64OutputStream.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJ");
+        base64OutputStream.close();
+        Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("8HgPHsHJEQ==");
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithOutputBufferSizeTest() throws Exception {
+        WriteCountStream writeCountStream = new WriteCountStream();
+        Base64OutputStream base64OutputStream1 = new Base64OutputStream(writeCountStream, 10);
+        base64OutputStream1.write(createBytes(20));
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(3);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(24);
+        base64OutputStream1.close();
+        Assertions.assertThat(writeCountStream.getWriteCount()).isEqualTo(4);
+        Assertions.assertThat(writeCountStream.getByteCount()).isEqualTo(28);
+
+        byte[] bytes = createBytes(100000);
+        for (int outputBufferSize = 4; outputBufferSize < 10; outputBufferSize++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Base64OutputStream base64OutputStream2 = new Base64OutputStream(baos, outputBufferSize);
+            base64OutputStream2.write(bytes, 0, 10);
+            base64OutputStream2.write(bytes[10]);
+            base64OutputStream2.write(bytes, 11, bytes.length - 11);
+            base64OutputStream2.close();
+            Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo(Base64Helper.toBase64(bytes));
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     */
+    @Test
+    public void wrongOutputBufferSizeTest() {
+        try {
+            new Base64OutputStream(new ByteArrayOutputStream(), 3);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (3)");
+        }
+        try {
+            new Base64OutputStream(new ByteArrayOutputStream(), -1);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (-1)");
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void writeWithBoundsNullByteArrayTest() throws Exception {
+        Base64OutputStream base64OutputStream = new Base64OutputStream(new ByteArrayOutputStream());
+        base64OutputStream.write(null, 0, 0);
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithWrongBoundsTest() throws Exception {
+        try {
+            Base64OutputStream base64OutputStream = new Base64OutputStream(new ByteArrayOutputStream());
+            base64OutputStream.write(new byte[]{(byte) 240, 120, 15}, -1, 2);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            Base64OutputStream base64OutputStream = new Base64OutputStream(new ByteArrayOutputStream());
+            base64OutputStream.write(new byte[]{(byte) 240, 120, 15}, 1, -1);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            Base64OutputStream base64OutputStream = new Base64OutputStream(new ByteArrayOutputStream());
+            base64OutputStream.write(new byte[]{(byte) 240, 120, 15}, 1, 3);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
     }
 
     /**
@@ -214,6 +447,110 @@ public final class Base64OutputStreamTest {
         Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo("HsE=");
     }
 
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithFormatTest() throws Exception {
+        byte[] bytes = new byte[]{(byte) 251, (byte) 255, (byte) 191, (byte) 251, (byte) 255};
+        Base64Format optionalFormat = new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.OPTIONAL);
+        Base64Format[] formats = new Base64Format[]{Base64Format.STANDARD, Base64Format.URL_SAFE, Base64Format.URL_SAFE_UNPADDED, optionalFormat};
+        String[] expected1 = new String[]{"+/+/+w==", "-_-_-w==", "-_-_-w", "-_-_-w=="};
+        String[] expected2 = new String[]{"+/+/+/8=", "-_-_-_8=", "-_-_-_8", "-_-_-_8="};
+        for (int i = 0; i < formats.length; i++) {
+            ByteArrayOutputStream baos1 = new ByteArrayOutputStream();
+            Base64OutputStream base64OutputStream1 = new Base64OutputStream(baos1, formats[i]);
+            base64OutputStream1.write(bytes, 0, 4);
+            base64OutputStream1.close();
+            Assertions.assertThat(new String(baos1.toByteArray(), ENCODING)).isEqualTo(expected1[i]);
+
+            ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
+            Base64OutputStream base64OutputStream2 = new Base64OutputStream(baos2, 4, formats[i]);
+            for (byte value : bytes) {
+                base64OutputStream2.write(value);
+            }
+            base64OutputStream2.close();
+            Assertions.assertThat(new String(baos2.toByteArray(), ENCODING)).isEqualTo(expected2[i]);
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeLargeArrayWithFormatTest() throws Exception {
+        byte[] bytes = createBytes(10000);
+        for (int length = 9990; length <= bytes.length; length++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Base64OutputStream base64OutputStream = new Base64OutputStream(baos, 100, Base64Format.URL_SAFE_UNPADDED);
+            base64OutputStream.write(bytes, 0, length);
+            base64OutputStream.close();
+            Assertions.assertThat(new String(baos.toByteArray(), ENCODING)).isEqualTo(Base64Helper.toBase64(bytes, 0, length, Base64Format.URL_SAFE_UNPADDED));
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeWithLinesTest() throws Exception {
+        byte[] bytes = createBytes(1000);
+        Base64Format[] formats = new Base64Format[]{Base64Format.MIME, new Base64Format(Base64Alphabet.URL_SAFE, Base64Padding.UNPADDED, 8, "\n"), new Base64Format(Base64Alphabet.STANDARD, Base64Padding.PADDED, 4, "<br/>")};
+        int[] lengths = new int[]{0, 1, 2, 3, 6, 7, 57, 58, 999, 1000};
+        int[] outputBufferSizes = new int[]{4, 7, 13, 100, 8192};
+        for (Base64Format format : formats) {
+            for (int length : lengths) {
+                String expected = Base64Helper.toBase64(bytes, 0, length, format);
+                for (int outputBufferSize : outputBufferSizes) {
+                    Assertions.assertThat(writeInChunks(bytes, length, outputBufferSize, format, length + 1)).isEqualTo(expected);
+                    Assertions.assertThat(writeInChunks(bytes, length, outputBufferSize, format, 5)).isEqualTo(expected);
+                    Assertions.assertThat(writeInChunks(bytes, length, outputBufferSize, format, 1)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64OutputStream} class test.
+     */
+    @Test
+    public void nullFormatTest() {
+        try {
+            new Base64OutputStream(new ByteArrayOutputStream(), null);
+            Assertions.fail("Base64OutputStream test fail");
+        } catch (NullPointerException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    private static String writeInChunks(final byte[] bytes, final int length, final int outputBufferSize, final Base64Format format, final int chunkSize) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64OutputStream base64OutputStream = new Base64OutputStream(baos, outputBufferSize, format);
+        for (int i = 0; i < length; i += chunkSize) {
+            if (chunkSize == 1) {
+                base64OutputStream.write(bytes[i]);
+            } else {
+                base64OutputStream.write(bytes, i, Math.min(chunkSize, length - i));
+            }
+        }
+        base64OutputStream.close();
+        return new String(baos.toByteArray(), ENCODING);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
     /**
      * Test class.
      *
@@ -245,4 +582,43 @@ public final class Base64OutputStreamTest {
 
     }
 
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class WriteCountStream extends OutputStream {
+
+        private int _writeCount;
+
+        private int _byteCount;
+
+        WriteCountStream() {
+            super();
+            _writeCount = 0;
+            _byteCount = 0;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            _writeCount++;
+            _byteCount++;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            _writeCount++;
+            _byteCount += length;
+        }
+
+        int getWriteCount() {
+            return _writeCount;
+        }
+
+        int getByteCount() {
+            return _byteCount;
+        }
+
+    }
+
 }
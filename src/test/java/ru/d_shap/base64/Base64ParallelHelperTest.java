@@ -0,0 +1,323 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64ParallelHelper}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64ParallelHelperTest {
+
+    private static final String ENCODING = "US-ASCII";
+
+    /**
+     * Test class constructor.
+     */
+    public Base64ParallelHelperTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(Base64ParallelHelper.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBase64Test() {
+        Assertions.assertThat(Base64ParallelHelper.toBase64(new byte[0])).isEqualTo("");
+        Assertions.assertThat(Base64ParallelHelper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13})).isEqualTo("qszh6BMN");
+        Assertions.assertThat(Base64ParallelHelper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19})).isEqualTo("qszh6BM=");
+        Assertions.assertThat(Base64ParallelHelper.toBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232})).isEqualTo("qszh6A==");
+
+        Assertions.assertThat(Base64ParallelHelper.toBase64(new byte[]{1, 2, (byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 3}, 2, 5)).isEqualTo("qszh6BM=");
+
+        byte[] bytes = createBytes(Base64ParallelHelper.DEFAULT_THRESHOLD * 3 + 2);
+        Assertions.assertThat(Base64ParallelHelper.toBase64(bytes)).isEqualTo(Base64Helper.toBase64(bytes));
+        Assertions.assertThat(Base64ParallelHelper.toBase64(bytes, 1, bytes.length - 2)).isEqualTo(Base64Helper.toBase64(bytes, 1, bytes.length - 2));
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBase64WithPoolTest() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 40; i++) {
+                byte[] bytes = createBytes(i);
+                for (int threshold = 1; threshold < 8; threshold++) {
+                    Assertions.assertThat(Base64ParallelHelper.toBase64(bytes, 0, bytes.length, pool, threshold)).isEqualTo(Base64Helper.toBase64(bytes));
+                }
+            }
+
+            byte[] bytes = createBytes(10000);
+            Assertions.assertThat(Base64ParallelHelper.toBase64(bytes, 7, 9990, pool, 100)).isEqualTo(Base64Helper.toBase64(bytes, 7, 9990));
+            Assertions.assertThat(Base64ParallelHelper.toBase64(bytes, 7, 9990, pool, 10000)).isEqualTo(Base64Helper.toBase64(bytes, 7, 9990));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBase64WithNullByteArrayTest() {
+        Base64ParallelHelper.toBase64(null);
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBase64WithWrongBoundsTest() {
+        try {
+            Base64ParallelHelper.toBase64(new byte[]{1, 2, 3}, -1, 2);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (-1)");
+        }
+        try {
+            Base64ParallelHelper.toBase64(new byte[]{1, 2, 3}, 0, -1);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array length (-1)");
+        }
+        try {
+            Base64ParallelHelper.toBase64(new byte[]{1, 2, 3}, 2, 2);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong byte array index (4)");
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBase64WithWrongThresholdTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            try {
+                Base64ParallelHelper.toBase64(new byte[]{1, 2, 3}, 0, 3, pool, 0);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong threshold (0)");
+            }
+            try {
+                Base64ParallelHelper.toBase64Bytes(new byte[]{1, 2, 3}, 0, 3, pool, -1);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong threshold (-1)");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBase64BytesTest() throws UnsupportedEncodingException {
+        Assertions.assertThat(Base64ParallelHelper.toBase64Bytes(new byte[0])).containsExactlyInOrder();
+        Assertions.assertThat(Base64ParallelHelper.toBase64Bytes(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19})).containsExactlyInOrder('q', 's', 'z', 'h', '6', 'B', 'M', '=');
+        Assertions.assertThat(Base64ParallelHelper.toBase64Bytes(new byte[]{1, 2, (byte) 170, (byte) 204, (byte) -31, (byte) 232, 3}, 2, 4)).containsExactlyInOrder('q', 's', 'z', 'h', '6', 'A', '=', '=');
+
+        byte[] bytes = createBytes(Base64ParallelHelper.DEFAULT_THRESHOLD * 2 + 1);
+        Assertions.assertThat(new String(Base64ParallelHelper.toBase64Bytes(bytes), ENCODING)).isEqualTo(Base64Helper.toBase64(bytes));
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBytesTest() {
+        Assertions.assertThat(Base64ParallelHelper.toBytes("")).containsExactlyInOrder();
+        Assertions.assertThat(Base64ParallelHelper.toBytes("qszh6BMN")).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+        Assertions.assertThat(Base64ParallelHelper.toBytes("qszh6BM=")).containsExactlyInOrder(-86, -52, -31, -24, 19);
+        Assertions.assertThat(Base64ParallelHelper.toBytes("qszh6A==")).containsExactlyInOrder(-86, -52, -31, -24);
+
+        Assertions.assertThat(Base64ParallelHelper.toBytes("..qszh6BM=..", 2, 8)).containsExactlyInOrder(-86, -52, -31, -24, 19);
+
+        String base64 = Base64Helper.toBase64(createBytes(Base64ParallelHelper.DEFAULT_THRESHOLD * 2 + 2));
+        Assertions.assertThat(Base64Helper.toBase64(Base64ParallelHelper.toBytes(base64))).isEqualTo(base64);
+        Assertions.assertThat(Base64Helper.toBase64(Base64ParallelHelper.toBytes(base64, 4, base64.length() - 8))).isEqualTo(base64.substring(4, base64.length() - 4));
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBytesWithPoolTest() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 40; i++) {
+                String base64 = Base64Helper.toBase64(createBytes(i));
+                for (int threshold = 1; threshold < 10; threshold++) {
+                    Assertions.assertThat(Base64Helper.toBase64(Base64ParallelHelper.toBytes(base64, 0, base64.length(), pool, threshold))).isEqualTo(base64);
+                }
+            }
+
+            String base64 = Base64Helper.toBase64(createBytes(10000));
+            Assertions.assertThat(Base64Helper.toBase64(Base64ParallelHelper.toBytes(base64, 8, 13320, pool, 100))).isEqualTo(base64.substring(8, 13328));
+            Assertions.assertThat(Base64Helper.toBase64(Base64ParallelHelper.toBytes(base64, 8, 13320, pool, 20000))).isEqualTo(base64.substring(8, 13328));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toBytesWithNullStringTest() {
+        Base64ParallelHelper.toBytes(null);
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBytesWithWrongBoundsTest() {
+        try {
+            Base64ParallelHelper.toBytes("qszh6BMN", -1, 4);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string index (-1)");
+        }
+        try {
+            Base64ParallelHelper.toBytes("qszh6BMN", 0, -1);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (-1)");
+        }
+        try {
+            Base64ParallelHelper.toBytes("qszh6BMN", 8, 4);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string index (12)");
+        }
+        try {
+            Base64ParallelHelper.toBytes("qszh6BMN", 1, 6);
+            Assertions.fail("Base64ParallelHelper test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong base64 string length (6)");
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBytesWithWrongThresholdTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            try {
+                Base64ParallelHelper.toBytes("qszh6BMN", 0, 8, pool, 0);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong threshold (0)");
+            }
+            try {
+                Base64ParallelHelper.toBytes("qszh6BMN", 0, 8, pool, -1);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong threshold (-1)");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void toBytesWithWrongCharacterTest() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            char[] base64 = Base64Helper.toBase64(createBytes(3000)).toCharArray();
+            base64[2500] = '.';
+            base64[1500] = ',';
+            base64[3999] = '-';
+            for (int i = 0; i < 20; i++) {
+                try {
+                    Base64ParallelHelper.toBytes(new String(base64), 0, base64.length, pool, 8);
+                    Assertions.fail("Base64ParallelHelper test fail");
+                } catch (Base64RuntimeException ex) {
+                    Assertions.assertThat(ex).hasMessage("Wrong character obtained (',', 44)");
+                }
+            }
+            base64[1500] = 'A';
+            try {
+                Base64ParallelHelper.toBytes(new String(base64), 0, base64.length, pool, 8);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+            }
+            base64[2500] = 'A';
+            try {
+                Base64ParallelHelper.toBytes(new String(base64), 0, base64.length, pool, 8);
+                Assertions.fail("Base64ParallelHelper test fail");
+            } catch (Base64RuntimeException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained ('-', 45)");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64ParallelHelper} class test.
+     */
+    @Test
+    public void getChunkLengthTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Assertions.assertThat(Base64ParallelHelper.getChunkLength(8000, pool, 10)).isEqualTo(1000);
+            Assertions.assertThat(Base64ParallelHelper.getChunkLength(8000, pool, 1500)).isEqualTo(1500);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+}
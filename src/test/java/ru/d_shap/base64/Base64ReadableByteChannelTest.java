@@ -0,0 +1,319 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64ReadableByteChannel}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64ReadableByteChannelTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64ReadableByteChannelTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readTest() throws Exception {
+        Assertions.assertThat(read(new Base64ReadableByteChannel(createChannel("8HgPHsHJ")), 16, false)).containsExactlyInOrder(-16, 120, 15, 30, -63, -55);
+        Assertions.assertThat(read(new Base64ReadableByteChannel(createChannel("8HgPHsE=")), 16, false)).containsExactlyInOrder(-16, 120, 15, 30, -63);
+        Assertions.assertThat(read(new Base64ReadableByteChannel(createChannel("8HgPHg==")), 16, false)).containsExactlyInOrder(-16, 120, 15, 30);
+        Assertions.assertThat(read(new Base64ReadableByteChannel(createChannel("")), 16, false)).containsExactlyInOrder();
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readBufferSizeTest() throws Exception {
+        for (int length = 0; length < 40; length++) {
+            byte[] bytes = createBytes(length);
+            String base64 = Base64Helper.toBase64(bytes);
+            for (int characterBufferSize = 4; characterBufferSize < 10; characterBufferSize++) {
+                for (int bufferSize = 1; bufferSize < 8; bufferSize++) {
+                    Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), characterBufferSize), bufferSize, false))).isEqualTo(base64);
+                    Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), characterBufferSize, true), bufferSize, true))).isEqualTo(base64);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readLargeDataTest() throws Exception {
+        byte[] bytes = createBytes(100000);
+        String base64 = Base64Helper.toBase64(bytes);
+        Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64)), 10000, false))).isEqualTo(base64);
+        Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), 1000, true), 999, true))).isEqualTo(base64);
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readDirectBuffersTest() throws Exception {
+        byte[] bytes = createBytes(100000);
+        String base64 = Base64Helper.toBase64(bytes);
+        Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), 50000, true), 30001, true))).isEqualTo(base64);
+        Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), 50001, true), 20000, false))).isEqualTo(base64);
+        Assertions.assertThat(Base64Helper.toBase64(read(new Base64ReadableByteChannel(createChannel(base64), 50002, false), 20001, true))).isEqualTo(base64);
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readNonBlockingTest() throws Exception {
+        Base64ReadableByteChannel channel = new Base64ReadableByteChannel(new NonBlockingChannel("8HgPHsHJ", 4));
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(0);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(3);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(0);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(3);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(-1);
+        Assertions.assertThat(channel.read(buffer)).isEqualTo(-1);
+        buffer.flip();
+        Assertions.assertThat(buffer.remaining()).isEqualTo(6);
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readEmptyBufferTest() throws Exception {
+        Base64ReadableByteChannel channel = new Base64ReadableByteChannel(createChannel("8HgP"));
+        Assertions.assertThat(channel.read(ByteBuffer.allocate(0))).isEqualTo(0);
+        Assertions.assertThat(channel.read(ByteBuffer.allocate(3))).isEqualTo(3);
+        Assertions.assertThat(channel.read(ByteBuffer.allocate(0))).isEqualTo(0);
+        Assertions.assertThat(channel.read(ByteBuffer.allocate(3))).isEqualTo(-1);
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readWrongCharacterTest() throws Exception {
+        try {
+            read(new Base64ReadableByteChannel(createChannel("8HgP.sHJ")), 16, false);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('.', 46)");
+            Assertions.assertThat(ex.getCause()).isInstanceOf(Base64RuntimeException.class);
+        }
+        try {
+            read(new Base64ReadableByteChannel(createChannel("8HgPHs=J")), 16, false);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('J', 74)");
+        }
+        try {
+            read(new Base64ReadableByteChannel(createChannel("8HgPHg==8HgP")), 16, false);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained ('8', 56)");
+        }
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void readEndOfStreamTest() throws Exception {
+        try {
+            read(new Base64ReadableByteChannel(createChannel("8HgPHs")), 16, false);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Unexpected end of stream");
+        }
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     */
+    @Test
+    public void createWrongBufferSizeTest() {
+        try {
+            new Base64ReadableByteChannel(createChannel(""), 3);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (3)");
+        }
+        try {
+            new Base64ReadableByteChannel(createChannel(""), 0, true);
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (0)");
+        }
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void readNullBufferTest() throws Exception {
+        new Base64ReadableByteChannel(createChannel("8HgP")).read(null);
+    }
+
+    /**
+     * {@link Base64ReadableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closeTest() throws Exception {
+        ReadableByteChannel wrappedChannel = createChannel("8HgP");
+        Base64ReadableByteChannel channel = new Base64ReadableByteChannel(wrappedChannel);
+        Assertions.assertThat(channel.isOpen()).isTrue();
+        Assertions.assertThat(wrappedChannel.isOpen()).isTrue();
+        channel.close();
+        Assertions.assertThat(channel.isOpen()).isFalse();
+        Assertions.assertThat(wrappedChannel.isOpen()).isFalse();
+        channel.close();
+        Assertions.assertThat(channel.isOpen()).isFalse();
+        try {
+            channel.read(ByteBuffer.allocate(3));
+            Assertions.fail("Base64ReadableByteChannel test fail");
+        } catch (ClosedChannelException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    private static ReadableByteChannel createChannel(final String base64) {
+        return Channels.newChannel(new ByteArrayInputStream(base64.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static byte[] read(final Base64ReadableByteChannel channel, final int bufferSize, final boolean direct) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ByteBuffer buffer;
+        if (direct) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        } else {
+            buffer = ByteBuffer.allocate(bufferSize);
+        }
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                baos.write(buffer.get());
+            }
+            buffer.clear();
+        }
+        channel.close();
+        return baos.toByteArray();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class NonBlockingChannel implements ReadableByteChannel {
+
+        private final byte[] _bytes;
+
+        private final int _fragmentSize;
+
+        private int _position;
+
+        private boolean _dataAvailable;
+
+        NonBlockingChannel(final String base64, final int fragmentSize) {
+            super();
+            _bytes = base64.getBytes(StandardCharsets.US_ASCII);
+            _fragmentSize = fragmentSize;
+            _position = 0;
+            _dataAvailable = false;
+        }
+
+        @Override
+        public int read(final ByteBuffer buffer) {
+            if (_position == _bytes.length) {
+                return -1;
+            }
+            if (!_dataAvailable) {
+                _dataAvailable = true;
+                return 0;
+            }
+            _dataAvailable = false;
+            int length = Math.min(_fragmentSize, _bytes.length - _position);
+            buffer.put(_bytes, _position, length);
+            _position += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Ignore
+        }
+
+    }
+
+}
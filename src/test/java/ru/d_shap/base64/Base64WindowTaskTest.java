@@ -0,0 +1,96 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64WindowTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64WindowTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64WindowTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64WindowTask} class test.
+     */
+    @Test
+    public void computeTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ByteBuffer base64 = ByteBuffer.allocate(8);
+            Base64WindowTask task = new Base64WindowTask(ByteBuffer.wrap(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232}), base64, true, true);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(new String(base64.array(), StandardCharsets.US_ASCII)).isEqualTo("qszh6A==");
+
+            ByteBuffer bytes = ByteBuffer.allocate(5);
+            task = new Base64WindowTask(ByteBuffer.wrap("qszh6BM=".getBytes(StandardCharsets.US_ASCII)), bytes, false, true);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes.array()).containsExactlyInOrder(-86, -52, -31, -24, 19);
+
+            bytes = ByteBuffer.allocate(6);
+            task = new Base64WindowTask(ByteBuffer.wrap("qszh6BMN".getBytes(StandardCharsets.US_ASCII)), bytes, false, false);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).isNull();
+            Assertions.assertThat(bytes.array()).containsExactlyInOrder(-86, -52, -31, -24, 19, 13);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@link Base64WindowTask} class test.
+     */
+    @Test
+    public void computeWrongCharacterTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Base64WindowTask task = new Base64WindowTask(ByteBuffer.wrap("qszh6B.N".getBytes(StandardCharsets.US_ASCII)), ByteBuffer.allocate(6), false, false);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('.', 46)");
+
+            task = new Base64WindowTask(ByteBuffer.wrap("qszh6BM=".getBytes(StandardCharsets.US_ASCII)), ByteBuffer.allocate(6), false, false);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('=', 61)");
+
+            task = new Base64WindowTask(ByteBuffer.wrap("qszh6B.=".getBytes(StandardCharsets.US_ASCII)), ByteBuffer.allocate(5), false, true);
+            pool.submit(task).join();
+            Assertions.assertThat(task.getConversionException()).hasMessage("Wrong character obtained ('.', 46)");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
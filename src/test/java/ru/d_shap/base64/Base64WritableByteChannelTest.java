@@ -0,0 +1,282 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Base64WritableByteChannel}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Base64WritableByteChannelTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Base64WritableByteChannelTest() {
+        super();
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeTest() throws Exception {
+        Assertions.assertThat(write(new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201}, 8192, 16, false)).isEqualTo("8HgPHsHJ");
+        Assertions.assertThat(write(new byte[]{(byte) 240, 120, 15, 30, (byte) 193}, 8192, 16, false)).isEqualTo("8HgPHsE=");
+        Assertions.assertThat(write(new byte[]{(byte) 240, 120, 15, 30}, 8192, 16, false)).isEqualTo("8HgPHg==");
+        Assertions.assertThat(write(new byte[]{}, 8192, 16, false)).isEqualTo("");
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeBufferSizeTest() throws Exception {
+        for (int length = 0; length < 40; length++) {
+            byte[] bytes = createBytes(length);
+            String expected = Base64Helper.toBase64(bytes);
+            for (int outputBufferSize = 4; outputBufferSize < 10; outputBufferSize++) {
+                for (int fragmentSize = 1; fragmentSize < 8; fragmentSize++) {
+                    Assertions.assertThat(write(bytes, outputBufferSize, fragmentSize, false)).isEqualTo(expected);
+                    Assertions.assertThat(write(bytes, outputBufferSize, fragmentSize, true)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeLargeDataTest() throws Exception {
+        byte[] bytes = createBytes(100000);
+        String expected = Base64Helper.toBase64(bytes);
+        Assertions.assertThat(write(bytes, 8192, 10000, false)).isEqualTo(expected);
+        Assertions.assertThat(write(bytes, 1000, 999, true)).isEqualTo(expected);
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writeDirectBuffersTest() throws Exception {
+        byte[] bytes = createBytes(100000);
+        String expected = Base64Helper.toBase64(bytes);
+        Assertions.assertThat(write(bytes, 50000, 30001, true)).isEqualTo(expected);
+        Assertions.assertThat(write(bytes, 50001, 20000, true)).isEqualTo(expected);
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void writePartialTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64WritableByteChannel channel = new Base64WritableByteChannel(new PartialChannel(baos, 3), 8);
+        Assertions.assertThat(channel.write(ByteBuffer.wrap(new byte[]{(byte) 240, 120, 15, 30, (byte) 193, (byte) 201, (byte) 240}))).isEqualTo(7);
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgPHsHJ");
+        channel.close();
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgPHsHJ8A==");
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closeWithFullOutputBufferTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64WritableByteChannel channel = new Base64WritableByteChannel(Channels.newChannel(baos), 6);
+        Assertions.assertThat(channel.write(ByteBuffer.wrap(new byte[]{(byte) 240, 120, 15, 30}))).isEqualTo(4);
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("");
+        channel.close();
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgPHg==");
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void flushTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64WritableByteChannel channel = new Base64WritableByteChannel(Channels.newChannel(baos));
+        Assertions.assertThat(channel.write(ByteBuffer.wrap(new byte[]{(byte) 240, 120, 15, 30}))).isEqualTo(4);
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("");
+        channel.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgP");
+        channel.flush();
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgP");
+        channel.close();
+        Assertions.assertThat(new String(baos.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo("8HgPHg==");
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     */
+    @Test
+    public void createWrongBufferSizeTest() {
+        try {
+            new Base64WritableByteChannel(Channels.newChannel(new ByteArrayOutputStream()), 3);
+            Assertions.fail("Base64WritableByteChannel test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (3)");
+        }
+        try {
+            new Base64WritableByteChannel(Channels.newChannel(new ByteArrayOutputStream()), 0, true);
+            Assertions.fail("Base64WritableByteChannel test fail");
+        } catch (Base64RuntimeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong buffer size (0)");
+        }
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void writeNullBufferTest() throws Exception {
+        new Base64WritableByteChannel(Channels.newChannel(new ByteArrayOutputStream())).write(null);
+    }
+
+    /**
+     * {@link Base64WritableByteChannel} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void closeTest() throws Exception {
+        WritableByteChannel wrappedChannel = Channels.newChannel(new ByteArrayOutputStream());
+        Base64WritableByteChannel channel = new Base64WritableByteChannel(wrappedChannel);
+        Assertions.assertThat(channel.isOpen()).isTrue();
+        Assertions.assertThat(wrappedChannel.isOpen()).isTrue();
+        channel.close();
+        Assertions.assertThat(channel.isOpen()).isFalse();
+        Assertions.assertThat(wrappedChannel.isOpen()).isFalse();
+        channel.close();
+        Assertions.assertThat(channel.isOpen()).isFalse();
+        try {
+            channel.write(ByteBuffer.allocate(3));
+            Assertions.fail("Base64WritableByteChannel test fail");
+        } catch (ClosedChannelException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        try {
+            channel.flush();
+            Assertions.fail("Base64WritableByteChannel test fail");
+        } catch (ClosedChannelException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    private static String write(final byte[] bytes, final int outputBufferSize, final int fragmentSize, final boolean direct) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Base64WritableByteChannel channel = new Base64WritableByteChannel(Channels.newChannel(baos), outputBufferSize, direct);
+        int index = 0;
+        while (index < bytes.length) {
+            int length = Math.min(fragmentSize, bytes.length - index);
+            ByteBuffer fragment;
+            if (direct) {
+                fragment = ByteBuffer.allocateDirect(length);
+            } else {
+                fragment = ByteBuffer.allocate(length);
+            }
+            fragment.put(bytes, index, length);
+            fragment.flip();
+            Assertions.assertThat(channel.write(fragment)).isEqualTo(length);
+            Assertions.assertThat(fragment.hasRemaining()).isFalse();
+            index += length;
+        }
+        channel.close();
+        return new String(baos.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialChannel implements WritableByteChannel {
+
+        private final ByteArrayOutputStream _outputStream;
+
+        private final int _maxWriteLength;
+
+        PartialChannel(final ByteArrayOutputStream outputStream, final int maxWriteLength) {
+            super();
+            _outputStream = outputStream;
+            _maxWriteLength = maxWriteLength;
+        }
+
+        @Override
+        public int write(final ByteBuffer buffer) {
+            int length = Math.min(buffer.remaining(), _maxWriteLength);
+            for (int i = 0; i < length; i++) {
+                _outputStream.write(buffer.get());
+            }
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Ignore
+        }
+
+    }
+
+}
@@ -57,6 +57,7 @@ public final class ConstsTest {
         Assertions.assertThat(Consts.TO_BASE64_THIRD_CHARACTER_INDEX_1).hasLength(256);
         Assertions.assertThat(Consts.TO_BASE64_THIRD_CHARACTER_INDEX_2).hasLength(256);
         Assertions.assertThat(Consts.TO_BASE64_FOURTH_CHARACTER).hasLength(256);
+        Assertions.assertThat(Consts.TO_BASE64_CHARACTER_PAIR).hasLength(4096);
         Assertions.assertThat(Consts.FROM_BASE64).hasLength(123);
         Assertions.assertThat(Consts.FROM_BASE64_FIRST_BYTE_1).hasLength(123);
         Assertions.assertThat(Consts.FROM_BASE64_FIRST_BYTE_2).hasLength(123);
@@ -64,6 +65,10 @@ public final class ConstsTest {
         Assertions.assertThat(Consts.FROM_BASE64_SECOND_BYTE_2).hasLength(123);
         Assertions.assertThat(Consts.FROM_BASE64_THIRD_BYTE_1).hasLength(123);
         Assertions.assertThat(Consts.FROM_BASE64_THIRD_BYTE_2).hasLength(123);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_1).hasLength(256);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_2).hasLength(256);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_3).hasLength(256);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_4).hasLength(256);
     }
 
     /**
@@ -150,6 +155,20 @@ public final class ConstsTest {
         Assertions.assertThat(Consts.TO_BASE64_FOURTH_CHARACTER[0x0D]).isEqualTo('N');
     }
 
+    /**
+     * {@link Consts} class test.
+     */
+    @Test
+    public void toBase64CharacterPairTest() {
+        for (int i = 0; i < Consts.TO_BASE64_CHARACTER_PAIR.length; i++) {
+            int characterPair = Consts.TO_BASE64_CHARACTER_PAIR[i];
+            Assertions.assertThat(characterPair >> 8).isEqualTo(Consts.TO_BASE64[i >> 6]);
+            Assertions.assertThat(characterPair & 0xFF).isEqualTo(Consts.TO_BASE64[i & 0x3F]);
+        }
+        Assertions.assertThat(Consts.TO_BASE64_CHARACTER_PAIR[0xAAC]).isEqualTo('q' << 8 | 's');
+        Assertions.assertThat(Consts.TO_BASE64_CHARACTER_PAIR[0xFFF]).isEqualTo('/' << 8 | '/');
+    }
+
     /**
      * {@link Consts} class test.
      */
@@ -234,4 +253,27 @@ public final class ConstsTest {
         Assertions.assertThat(Consts.FROM_BASE64_THIRD_BYTE_2[10]).isEqualTo(-1);
     }
 
+    /**
+     * {@link Consts} class test.
+     */
+    @Test
+    public void fromBase64GroupTest() {
+        for (int i = 0; i < 256; i++) {
+            if (i < Consts.FROM_BASE64.length && Consts.FROM_BASE64[i] >= 0) {
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_1[i]).isEqualTo(Consts.FROM_BASE64[i] << 18);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_2[i]).isEqualTo(Consts.FROM_BASE64[i] << 12);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_3[i]).isEqualTo(Consts.FROM_BASE64[i] << 6);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_4[i]).isEqualTo(Consts.FROM_BASE64[i]);
+            } else {
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_1[i]).isEqualTo(-1);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_2[i]).isEqualTo(-1);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_3[i]).isEqualTo(-1);
+                Assertions.assertThat(Consts.FROM_BASE64_GROUP_4[i]).isEqualTo(-1);
+            }
+        }
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_1['/']).isEqualTo(0xFC0000);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_4['/']).isEqualTo(0x3F);
+        Assertions.assertThat(Consts.FROM_BASE64_GROUP_2[Consts.PAD]).isEqualTo(-1);
+    }
+
 }
@@ -65,10 +65,55 @@ public final class ExceptionMessageHelperTest {
         Assertions.assertThat(ExceptionMessageHelper.createWrongBase64StringLengthMessage(-1)).isEqualTo("Wrong base64 string length (-1)");
         Assertions.assertThat(ExceptionMessageHelper.createWrongBase64StringLengthMessage(17)).isEqualTo("Wrong base64 string length (17)");
 
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(-1)).isEqualTo("Wrong base64 array index (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayIndexMessage(17)).isEqualTo("Wrong base64 array index (17)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(-1)).isEqualTo("Wrong base64 array length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(5)).isEqualTo("Wrong base64 array length (5)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(13, 16)).isEqualTo("Wrong base64 array length (13), expected length is (16)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64ArrayLengthMessage(9, 20)).isEqualTo("Wrong base64 array length (9), expected length is (20)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongByteBufferLengthMessage(13, 16)).isEqualTo("Wrong byte buffer length (13), expected length is (16)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongByteBufferLengthMessage(9, 20)).isEqualTo("Wrong byte buffer length (9), expected length is (20)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(-1)).isEqualTo("Wrong base64 buffer length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(5)).isEqualTo("Wrong base64 buffer length (5)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(13, 16)).isEqualTo("Wrong base64 buffer length (13), expected length is (16)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64BufferLengthMessage(9, 20)).isEqualTo("Wrong base64 buffer length (9), expected length is (20)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBytesLengthMessage(-1L)).isEqualTo("Wrong bytes length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBytesLengthMessage(-3000000001L)).isEqualTo("Wrong bytes length (-3000000001)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64LengthMessage(-1L)).isEqualTo("Wrong base64 length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64LengthMessage(3000000001L)).isEqualTo("Wrong base64 length (3000000001)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createTooLargeBase64LengthMessage(2147483648L)).isEqualTo("Too large base64 length (2147483648)");
+        Assertions.assertThat(ExceptionMessageHelper.createTooLargeBase64LengthMessage(2863311532L)).isEqualTo("Too large base64 length (2863311532)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongLineLengthMessage(-1)).isEqualTo("Wrong line length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongLineLengthMessage(3)).isEqualTo("Wrong line length (3)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongLineSeparatorLengthMessage(-1)).isEqualTo("Wrong line separator length (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongLineSeparatorLengthMessage(-2)).isEqualTo("Wrong line separator length (-2)");
+
         Assertions.assertThat(ExceptionMessageHelper.createWrongBase64StringCharacterMessage('-')).isEqualTo("Wrong character obtained ('-', 45)");
         Assertions.assertThat(ExceptionMessageHelper.createWrongBase64StringCharacterMessage('!')).isEqualTo("Wrong character obtained ('!', 33)");
         Assertions.assertThat(ExceptionMessageHelper.createWrongBase64StringCharacterMessage('#')).isEqualTo("Wrong character obtained ('#', 35)");
 
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBufferSizeMessage(-1)).isEqualTo("Wrong buffer size (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBufferSizeMessage(3)).isEqualTo("Wrong buffer size (3)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongThresholdMessage(-1)).isEqualTo("Wrong threshold (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongThresholdMessage(0)).isEqualTo("Wrong threshold (0)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongWindowSizeMessage(-1)).isEqualTo("Wrong window size (-1)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongWindowSizeMessage(3)).isEqualTo("Wrong window size (3)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64FileLengthMessage(5L)).isEqualTo("Wrong base64 file length (5)");
+        Assertions.assertThat(ExceptionMessageHelper.createWrongBase64FileLengthMessage(3000000001L)).isEqualTo("Wrong base64 file length (3000000001)");
+
+        Assertions.assertThat(ExceptionMessageHelper.createInputAfterEndMessage()).isEqualTo("Input obtained after the end of input");
+
         Assertions.assertThat(ExceptionMessageHelper.createEndOfStreamMessage()).isEqualTo("Unexpected end of stream");
     }
 
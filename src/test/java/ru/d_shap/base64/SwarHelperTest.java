@@ -0,0 +1,83 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link SwarHelper}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SwarHelperTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SwarHelperTest() {
+        super();
+    }
+
+    /**
+     * {@link SwarHelper} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(SwarHelper.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link SwarHelper} class test.
+     */
+    @Test
+    public void getBlockTest() {
+        Assertions.assertThat(SwarHelper.getBlock(new byte[]{'q', 's', 'z', 'h', '6', 'B', 'M', 'N'}, 0)).isEqualTo(0x71737A683642_4D4EL);
+        Assertions.assertThat(SwarHelper.getBlock(new byte[]{'?', 'q', 's', 'z', 'h', '6', 'B', 'M', 'N'}, 1)).isEqualTo(0x71737A683642_4D4EL);
+        Assertions.assertThat(SwarHelper.getBlock(new byte[]{(byte) 0xFF, 0, 0, 0, (byte) 0x80, (byte) 0xC3, 0, (byte) 0xFE}, 0)).isEqualTo(0xFF00_0000_80C3_00FEL);
+
+        Assertions.assertThat(SwarHelper.getBlock("qszh6BMN", 0)).isEqualTo(0x71737A683642_4D4EL);
+        Assertions.assertThat(SwarHelper.getBlock("?qszh6BMN", 1)).isEqualTo(0x71737A683642_4D4EL);
+        Assertions.assertThat(SwarHelper.getBlock("qszh6BM\u0080", 0)).isEqualTo(0x8080_8080_8080_8080L);
+        Assertions.assertThat(SwarHelper.getBlock("\u0410szh6BMN", 0)).isEqualTo(0x8080_8080_8080_8080L);
+    }
+
+    /**
+     * {@link SwarHelper} class test.
+     */
+    @Test
+    public void isBase64BlockTest() {
+        Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock("qszh6BMN", 0))).isTrue();
+        Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock("AZaz09+/", 0))).isTrue();
+        Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock("qszh6BM=", 0))).isFalse();
+        Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock("qszh6BM\u0080", 0))).isFalse();
+        Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock(new byte[]{'q', 's', 'z', 'h', '6', 'B', 'M', (byte) 0xC3}, 0))).isFalse();
+
+        for (int i = 0; i < 256; i++) {
+            for (int j = 0; j < 8; j++) {
+                byte[] base64 = new byte[]{'A', 'A', 'A', 'A', 'A', 'A', 'A', 'A'};
+                base64[j] = (byte) i;
+                Assertions.assertThat(SwarHelper.isBase64Block(SwarHelper.getBlock(base64, 0)) == Base64Helper.isBase64CharacterValid(i)).isTrue();
+            }
+        }
+    }
+
+}
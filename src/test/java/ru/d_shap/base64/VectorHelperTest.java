@@ -0,0 +1,187 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Base64 library converts bytes to the base64 representation and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of base64 library.
+//
+// Base64 library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Base64 library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.base64;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link VectorHelper}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class VectorHelperTest {
+
+    private static final int[] GROUPS_COUNTS = new int[]{63, 64, 65, 66, 67, 100, 127, 128, 129, 130, 131, 255, 256, 257, 1000, 1001};
+
+    /**
+     * Test class constructor.
+     */
+    public VectorHelperTest() {
+        super();
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(VectorHelper.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void convertGroupsToBase64Test() {
+        byte[] base64 = new byte[8];
+        Assertions.assertThat(VectorHelper.convertGroupsToBase64(new byte[]{(byte) 170, (byte) 204, (byte) -31, (byte) 232, 19, 13}, 0, 2, base64, 0)).isEqualTo(0);
+        Assertions.assertThat(base64).containsExactlyInOrder(0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void convertGroupsToBytesTest() {
+        byte[] bytes = new byte[6];
+        Assertions.assertThat(VectorHelper.convertGroupsToBytes(new byte[]{'q', 's', 'z', 'h', '6', 'B', 'M', 'N'}, 0, 2, bytes, 0)).isEqualTo(0);
+        Assertions.assertThat(bytes).containsExactlyInOrder(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void convertGroupsToBase64ComparedWithScalarTest() {
+        int groupsPerVector = getGroupsPerVector();
+        for (int groupsCount : GROUPS_COUNTS) {
+            for (int offset = 0; offset < 4; offset++) {
+                byte[] bytes = createBytes(offset + groupsCount * 3 + 5);
+                byte[] base64 = createFilledArray(offset + groupsCount * 4 + 7, '#');
+                int convertedGroupsCount = VectorHelper.convertGroupsToBase64(bytes, offset, groupsCount, base64, offset + 2);
+                Assertions.assertThat(convertedGroupsCount).isEqualTo(getConvertedGroupsCount(groupsCount, groupsCount, groupsPerVector));
+
+                byte[] expected = createFilledArray(base64.length, '#');
+                System.arraycopy(convertToBase64(bytes, offset, convertedGroupsCount), 0, expected, offset + 2, convertedGroupsCount * 4);
+                Assertions.assertThat(Arrays.toString(base64)).isEqualTo(Arrays.toString(expected));
+            }
+        }
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void convertGroupsToBytesComparedWithScalarTest() {
+        int groupsPerVector = getGroupsPerVector();
+        for (int groupsCount : GROUPS_COUNTS) {
+            for (int offset = 0; offset < 4; offset++) {
+                byte[] expectedBytes = createBytes(groupsCount * 3);
+                byte[] base64 = createFilledArray(offset + groupsCount * 4 + 5, '#');
+                System.arraycopy(convertToBase64(expectedBytes, 0, groupsCount), 0, base64, offset, groupsCount * 4);
+                byte[] bytes = createFilledArray(offset + groupsCount * 3 + 7, '#');
+                int convertedGroupsCount = VectorHelper.convertGroupsToBytes(base64, offset, groupsCount, bytes, offset + 2);
+                Assertions.assertThat(convertedGroupsCount).isEqualTo(getConvertedGroupsCount(groupsCount, groupsCount, groupsPerVector));
+
+                byte[] expected = createFilledArray(bytes.length, '#');
+                System.arraycopy(expectedBytes, 0, expected, offset + 2, convertedGroupsCount * 3);
+                Assertions.assertThat(Arrays.toString(bytes)).isEqualTo(Arrays.toString(expected));
+            }
+        }
+    }
+
+    /**
+     * {@link VectorHelper} class test.
+     */
+    @Test
+    public void convertGroupsToBytesWithWrongCharacterTest() {
+        int groupsPerVector = getGroupsPerVector();
+        int groupsCount = 131;
+        byte[] expectedBytes = createBytes(groupsCount * 3);
+        byte[] validBase64 = convertToBase64(expectedBytes, 0, groupsCount);
+        Base64DecodeResult result = new Base64DecodeResult();
+        for (int i = 0; i < validBase64.length; i++) {
+            for (byte wrongCharacter : new byte[]{'.', '=', '@', '[', '`', '{', (byte) 128, (byte) 255}) {
+                byte[] base64 = validBase64.clone();
+                base64[i] = wrongCharacter;
+                byte[] bytes = createFilledArray(groupsCount * 3, '#');
+                int convertedGroupsCount = VectorHelper.convertGroupsToBytes(base64, 0, groupsCount, bytes, 0);
+                Assertions.assertThat(convertedGroupsCount).isEqualTo(getConvertedGroupsCount(groupsCount, i / 4, groupsPerVector));
+
+                byte[] expected = createFilledArray(bytes.length, '#');
+                System.arraycopy(expectedBytes, 0, expected, 0, convertedGroupsCount * 3);
+                Assertions.assertThat(Arrays.toString(bytes)).isEqualTo(Arrays.toString(expected));
+
+                if (i < validBase64.length - 4) {
+                    Assertions.assertThat(Base64Helper.tryToBytes(base64, Base64Format.STANDARD, result)).isFalse();
+                    Assertions.assertThat(result.getError()).isSameAs(Base64DecodeError.WRONG_CHARACTER);
+                    Assertions.assertThat(result.getErrorIndex()).isEqualTo(i);
+                }
+            }
+        }
+    }
+
+    private static int getGroupsPerVector() {
+        try {
+            Class.forName("jdk.incubator.vector.ByteVector");
+            Field field = Class.forName("ru.d_shap.base64.VectorCodec").getDeclaredField("GROUPS_PER_VECTOR");
+            field.setAccessible(true);
+            return field.getInt(null);
+        } catch (ReflectiveOperationException ex) {
+            return 0;
+        }
+    }
+
+    private static int getConvertedGroupsCount(final int groupsCount, final int validGroupsCount, final int groupsPerVector) {
+        if (groupsPerVector == 0 || groupsCount < 64) {
+            return 0;
+        }
+        int vectorsCount = Math.min(groupsCount / groupsPerVector - 1, validGroupsCount / groupsPerVector);
+        return Math.max(vectorsCount, 0) * groupsPerVector;
+    }
+
+    private static byte[] convertToBase64(final byte[] bytes, final int offset, final int groupsCount) {
+        byte[] base64 = new byte[groupsCount * 4];
+        for (int i = 0; i < groupsCount; i++) {
+            Base64Helper.toBase64(bytes, offset + i * 3, 3, base64, i * 4);
+        }
+        return base64;
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+
+    private static byte[] createFilledArray(final int length, final char value) {
+        byte[] array = new byte[length];
+        Arrays.fill(array, (byte) value);
+        return array;
+    }
+
+}